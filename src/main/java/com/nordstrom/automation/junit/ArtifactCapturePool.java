@@ -0,0 +1,69 @@
+package com.nordstrom.automation.junit;
+
+import static com.nordstrom.automation.junit.LifecycleHooks.getConfig;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.nordstrom.automation.junit.JUnitConfig.JUnitSettings;
+
+/**
+ * This class implements the shared pool on which {@link ArtifactCollector} objects capture artifacts when the
+ * {@link JUnitSettings#ARTIFACT_PARALLEL ARTIFACT_PARALLEL} setting is enabled. Each collector attached to a failed
+ * test submits its capture request to this pool and returns immediately, so the artifacts of all collectors are
+ * captured concurrently. Pending captures are completed before the test finished notification is published.
+ * <p>
+ * <b>NOTE</b>: The size of the pool is specified by the
+ * {@link JUnitSettings#ARTIFACT_CAPTURE_THREADS ARTIFACT_CAPTURE_THREADS} setting.
+ */
+class ArtifactCapturePool {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ArtifactCapturePool.class);
+
+    private ArtifactCapturePool() {
+        throw new AssertionError("ArtifactCapturePool is a static utility class that cannot be instantiated");
+    }
+
+    /**
+     * Determine if artifacts are captured in parallel.
+     *
+     * @return {@code true} if parallel capture is enabled; otherwise {@code false}
+     */
+    static boolean isEnabled() {
+        return getConfig().getBoolean(JUnitSettings.ARTIFACT_PARALLEL.key(), false);
+    }
+
+    /**
+     * Submit the specified capture request to the capture pool.
+     *
+     * @param request artifact capture request
+     * @return {@link Future} that completes when the request has been processed
+     */
+    static Future<?> submit(final Runnable request) {
+        return CapturePool.EXECUTOR.submit(request);
+    }
+
+    /**
+     * Wait for the specified capture request to complete.
+     *
+     * @param pending pending capture request
+     */
+    static void await(final Future<?> pending) {
+        DaemonPool.await(pending, LOGGER, "Artifact capture aborted unexpectedly");
+    }
+
+    /**
+     * This class provides lazy initialization of the artifact capture pool.
+     */
+    private static class CapturePool {
+        static final ExecutorService EXECUTOR;
+
+        static {
+            int threads = Math.max(1, getConfig().getInt(JUnitSettings.ARTIFACT_CAPTURE_THREADS.key(), 4));
+            EXECUTOR = DaemonPool.newFixedPool("artifact-capture-", threads);
+        }
+    }
+}
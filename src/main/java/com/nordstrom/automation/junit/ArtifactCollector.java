@@ -1,20 +1,53 @@
 package com.nordstrom.automation.junit;
 
+import static com.nordstrom.automation.junit.LifecycleHooks.toMapKey;
+
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 
 import org.junit.runner.Description;
+import org.slf4j.Logger;
 
+import com.nordstrom.automation.junit.JUnitConfig.JUnitSettings;
 import com.nordstrom.common.file.PathUtils;
 
 /**
  * This is the base class for implementations of scenario-specific artifact collectors.
+ * <p>
+ * <b>NOTE</b>: If the {@link com.nordstrom.automation.junit.JUnitConfig.JUnitSettings#ARTIFACT_ASYNC ARTIFACT_ASYNC}
+ * setting is enabled, captured artifacts are written to disk by a background thread (see {@link ArtifactWriter}).
+ * The output path is reserved when the artifact is captured, and pending writes are completed before the test
+ * finished notification is published.
+ * <p>
+ * The storage strategy for captured artifacts is specified by the
+ * {@link com.nordstrom.automation.junit.JUnitConfig.JUnitSettings#ARTIFACT_STORE ARTIFACT_STORE} setting (see
+ * {@link ArtifactStore}). Artifact retention quotas are enforced via {@link ArtifactIndex}.
+ * <p>
+ * If the {@link com.nordstrom.automation.junit.JUnitConfig.JUnitSettings#ARTIFACT_DEFERRED ARTIFACT_DEFERRED} setting
+ * is enabled, only a snapshot is taken when a test fails (see {@link ArtifactType#getSnapshot(Object, Throwable)}).
+ * Snapshots are resolved before the test finished notification is published: If the test finally failed, the artifact
+ * is produced from the snapshot and stored; if the failed attempt is being retried, the snapshot is discarded.
+ * <p>
+ * If the {@link com.nordstrom.automation.junit.JUnitConfig.JUnitSettings#ARTIFACT_PARALLEL ARTIFACT_PARALLEL} setting
+ * is enabled, the collectors attached to a failed test capture their artifacts concurrently on a shared pool (see
+ * {@link ArtifactCapturePool}), and pending captures are completed before the test finished notification is published.
+ * Because each collector returns as soon as its capture is submitted, the rules that enclose it (including other
+ * collectors) continue while the capture is in progress. Artifact providers must therefore not depend on test fixture
+ * state that enclosing rules tear down (e.g. - a browser session closed by an outer rule). For such providers, enable
+ * deferred capture as well: Snapshots are always taken in place, and only their resolution is performed in parallel.
+ * <p>
+ * If the {@link com.nordstrom.automation.junit.JUnitConfig.JUnitSettings#ARTIFACT_MANIFEST ARTIFACT_MANIFEST} setting
+ * is enabled, each saved artifact is recorded in a machine-readable manifest (see {@link ArtifactManifest}).
  * 
  * @param <T> scenario-specific artifact type
  */
@@ -34,7 +67,11 @@ public class ArtifactCollector<T extends ArtifactType> extends AtomIdentity {
     }
     
     private final T provider;
-    private final List<Path> artifactPaths = new ArrayList<>();
+    private final List<Path> artifactPaths = new CopyOnWriteArrayList<>();
+    private final List<Future<?>> pendingWrites = new CopyOnWriteArrayList<>();
+    private final List<Snapshot> snapshots = new CopyOnWriteArrayList<>();
+    private final List<Future<?>> pendingCaptures = new CopyOnWriteArrayList<>();
+    private volatile Discarder discarder;
     
     /**
      * Constructor for <b>ArtifactCollector</b> instances.
@@ -62,8 +99,34 @@ public class ArtifactCollector<T extends ArtifactType> extends AtomIdentity {
      * {@inheritDoc}
      */
     @Override
-    public void failed(Throwable e, Description description) {
-        captureArtifact(e);
+    public void failed(final Throwable e, Description description) {
+        // if capture is deferred, take snapshot in place
+        if (LifecycleHooks.getConfig().getBoolean(JUnitSettings.ARTIFACT_DEFERRED.key(), false)) {
+            takeSnapshot(e);
+        // otherwise, if capturing in parallel
+        } else if (ArtifactCapturePool.isEnabled()) {
+            pendingCaptures.add(ArtifactCapturePool.submit(new Runnable() {
+                @Override
+                public void run() {
+                    captureArtifact(e);
+                }
+            }));
+        } else {
+            captureArtifact(e);
+        }
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void succeeded(Description description) {
+        // if discarding artifacts of passed retries
+        if (ArtifactIndex.isEnabled() && ArtifactIndex.dropPassedRetries()) {
+            for (ArtifactIndex.Entry entry : ArtifactIndex.releaseRetriesOf(getAttemptKey(), toMapKey(this))) {
+                entry.discarder.discard(entry.path);
+            }
+        }
     }
     
     /**
@@ -77,13 +140,249 @@ public class ArtifactCollector<T extends ArtifactType> extends AtomIdentity {
             return Optional.empty();
         }
         
-        byte[] artifact = provider.getArtifact(getInstance(), reason);
+        // if artifact quota reached
+        if (ArtifactIndex.isEnabled() && !ArtifactIndex.hasRoom(getTestId(), getDescription().getClassName())) {
+            if (provider.getLogger() != null) {
+                provider.getLogger().debug("Artifact quota reached; no artifact was captured");
+            }
+            return Optional.empty();
+        }
+        
+        final ArtifactStore store = ArtifactStore.getConfigured();
+        
+        // if provider streams its artifacts
+        if (provider instanceof StreamingArtifactType) {
+            return streamArtifact((StreamingArtifactType) provider, store, reason);
+        }
+        
+        return storeArtifact(store, provider.getArtifact(getInstance(), reason));
+    }
+    
+    /**
+     * Take a snapshot from the current test result context, deferring artifact capture until the test has finished.
+     * 
+     * @param reason impetus for capture request; may be 'null'
+     */
+    private void takeSnapshot(Throwable reason) {
+        if (! provider.canGetArtifact(getInstance())) {
+            return;
+        }
+        
+        Object snapshot = provider.getSnapshot(getInstance(), reason);
+        if (snapshot != null) {
+            snapshots.add(new Snapshot(snapshot, reason));
+        }
+    }
+    
+    /**
+     * Resolve the snapshots taken by this collector, storing artifacts if the test finally failed.
+     * 
+     * @param failed {@code true} if the test finally failed; {@code false} if it passed or is being retried
+     */
+    private void resolveSnapshots(boolean failed) {
+        for (Snapshot snapshot : snapshots) {
+            snapshots.remove(snapshot);
+            // if test passed or is being retried
+            if (!failed) {
+                provider.discardSnapshot(snapshot.handle);
+                continue;
+            }
+            
+            // if artifact quota reached
+            if (ArtifactIndex.isEnabled() && !ArtifactIndex.hasRoom(getTestId(), getDescription().getClassName())) {
+                if (provider.getLogger() != null) {
+                    provider.getLogger().debug("Artifact quota reached; no artifact was captured");
+                }
+                provider.discardSnapshot(snapshot.handle);
+                continue;
+            }
+            
+            storeArtifact(ArtifactStore.getConfigured(),
+                            provider.getArtifact(getInstance(), snapshot.handle, snapshot.reason));
+        }
+    }
+    
+    /**
+     * Store the specified artifact with the indicated storage strategy.
+     * 
+     * @param store artifact storage strategy
+     * @param artifact captured artifact; may be 'null'
+     * @return (optional) path at which the captured artifact was stored
+     */
+    private Optional<Path> storeArtifact(final ArtifactStore store, byte[] artifact) {
         if ((artifact == null) || (artifact.length == 0)) {
             return Optional.empty();
         }
         
+        Path artifactPath = getArtifactOutputPath(store);
+        if (artifactPath == null) {
+            return Optional.empty();
+        }
+        
+        if (provider.getLogger() != null) {
+            provider.getLogger().info("Saving captured artifact to ({}).", artifactPath);
+        }
+        
+        if (ArtifactWriter.isEnabled()) {
+            try {
+                // reserve output path
+                store.reserve(artifactPath);
+            } catch (IOException e) {
+                if (provider.getLogger() != null) {
+                    provider.getLogger().warn("Unable to reserve ({}); no artifact was captured", artifactPath, e);
+                }
+                return Optional.empty();
+            }
+            
+            recordArtifactPath(artifactPath);
+            // admit before writing, so a failed write can be released
+            Optional<Path> admitted = admitArtifact(artifactPath, artifact.length);
+            // if evicted on admission, skip write
+            if (!admitted.isPresent()) {
+                return admitted;
+            }
+            
+            final Path targetPath = artifactPath;
+            final byte[] content = artifact;
+            pendingWrites.add(ArtifactWriter.submit(new Runnable() {
+                @Override
+                public void run() {
+                    // if write failed
+                    if (!writeArtifact(store, targetPath, content)) {
+                        artifactPaths.remove(targetPath);
+                        // if not already evicted, release reserved path
+                        if (!ArtifactIndex.isEnabled() || ArtifactIndex.release(targetPath)) {
+                            getDiscarder().release(targetPath);
+                        }
+                    }
+                }
+            }));
+            return admitted;
+        }
+        
+        if (!writeArtifact(store, artifactPath, artifact)) {
+            return Optional.empty();
+        }
+        
+        recordArtifactPath(artifactPath);
+        return admitArtifact(artifactPath, artifact.length);
+    }
+    
+    /**
+     * Capture artifact from the specified streaming provider, writing it directly to the output file.
+     * 
+     * @param streamer streaming artifact provider
+     * @param store artifact storage strategy
+     * @param reason impetus for capture request; may be 'null'
+     * @return (optional) path at which the captured artifact was stored
+     */
+    private Optional<Path> streamArtifact(StreamingArtifactType streamer, ArtifactStore store, Throwable reason) {
+        Path artifactPath = getArtifactOutputPath(store);
+        if (artifactPath == null) {
+            return Optional.empty();
+        }
+        
+        if (provider.getLogger() != null) {
+            provider.getLogger().info("Saving captured artifact to ({}).", artifactPath);
+        }
+        
+        boolean written = false;
+        final long[] size = new long[1];
+        try (OutputStream out = new FilterOutputStream(store.newOutputStream(
+                        artifactPath, getStorePath(), getTestId(), getArtifactTypeName())) {
+            @Override
+            public void write(int b) throws IOException {
+                out.write(b);
+                size[0]++;
+            }
+            
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                out.write(b, off, len);
+                size[0] += len;
+            }
+        }) {
+            written = streamer.writeArtifact(getInstance(), reason, out);
+        } catch (IOException e) {
+            if (provider.getLogger() != null) {
+                provider.getLogger().warn("I/O error saving to ({}); no artifact was captured", artifactPath, e);
+            }
+        }
+        
+        try {
+            // if nothing was written
+            if (!written || (size[0] == 0)) {
+                // discard output file
+                store.discard(artifactPath, getStorePath());
+                return Optional.empty();
+            }
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+        
+        recordArtifactPath(artifactPath);
+        return admitArtifact(artifactPath, size[0]);
+    }
+    
+    /**
+     * Add the specified artifact to the artifact index, discarding artifacts evicted to satisfy retention quotas.
+     * 
+     * @param artifactPath path at which the captured artifact was stored
+     * @param size artifact size in bytes
+     * @return (optional) path at which the captured artifact was stored; empty if evicted
+     */
+    private Optional<Path> admitArtifact(Path artifactPath, long size) {
+        recordManifestEntry(ArtifactManifest.SAVED, artifactPath, size);
+        if (ArtifactIndex.isEnabled()) {
+            boolean retained = true;
+            ArtifactIndex.Entry added = new ArtifactIndex.Entry(artifactPath, getTestId(),
+                            getDescription().getClassName(), size, getAttemptKey(), toMapKey(this), getDiscarder());
+            for (ArtifactIndex.Entry entry : ArtifactIndex.admit(added)) {
+                entry.discarder.discard(entry.path);
+                if (entry.path.equals(artifactPath)) {
+                    retained = false;
+                }
+            }
+            if (!retained) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(artifactPath);
+    }
+    
+    /**
+     * Get the key that identifies the atomic test of this collector in the artifact index. All attempts of a test
+     * share this key, because retried tests are described by duplicates of the original description.
+     * 
+     * @return atomic test key
+     */
+    private String getAttemptKey() {
+        Description description = getDescription();
+        return description.getClassName() + "#" + ((UniqueIdAccessor) description).getUniqueId();
+    }
+    
+    /**
+     * Get the object that discards artifacts of this collector that are evicted from the artifact index.
+     * 
+     * @return artifact {@link Discarder}
+     */
+    private Discarder getDiscarder() {
+        if (discarder == null) {
+            discarder = new Discarder(this);
+        }
+        return discarder;
+    }
+    
+    
+    /**
+     * Get the path at which to store the next artifact, creating the collection directory if needed.
+     * 
+     * @param store artifact storage strategy
+     * @return path at which to store the next artifact; {@code null} if unavailable
+     */
+    private Path getArtifactOutputPath(ArtifactStore store) {
         Path collectionPath = getCollectionPath();
-        if (!collectionPath.toFile().exists()) {
+        if (store.isFileBased() && !collectionPath.toFile().exists()) {
             try {
                 Files.createDirectories(collectionPath);
             } catch (IOException e) {
@@ -91,13 +390,13 @@ public class ArtifactCollector<T extends ArtifactType> extends AtomIdentity {
                     String messageTemplate = "Unable to create collection directory ({}); no artifact was captured";
                     provider.getLogger().warn(messageTemplate, collectionPath, e);
                 }
-                return Optional.empty();
+                return null;
             }
         }
         
         Path artifactPath;
         try {
-            artifactPath = PathUtils.getNextPath(
+            artifactPath = store.getNextPath(
                             collectionPath, 
                             getArtifactBaseName(), 
                             provider.getArtifactExtension());
@@ -105,23 +404,44 @@ public class ArtifactCollector<T extends ArtifactType> extends AtomIdentity {
             if (provider.getLogger() != null) {
                 provider.getLogger().warn("Unable to get output path; no artifact was captured", e);
             }
-            return Optional.empty();
+            return null;
         }
         
+        return artifactPath;
+    }
+    
+    /**
+     * Write the specified artifact to the indicated path.
+     * 
+     * @param store artifact storage strategy
+     * @param artifactPath path at which to store the artifact
+     * @param artifact captured artifact
+     * @return {@code true} if the artifact was written; otherwise {@code false}
+     */
+    private boolean writeArtifact(ArtifactStore store, Path artifactPath, byte[] artifact) {
         try {
-            if (provider.getLogger() != null) {
-                provider.getLogger().info("Saving captured artifact to ({}).", artifactPath);
-            }
-            Files.write(artifactPath, artifact);
+            store.write(artifactPath, getStorePath(), getTestId(), getArtifactTypeName(), artifact);
+            return true;
         } catch (IOException e) {
             if (provider.getLogger() != null) {
                 provider.getLogger().warn("I/O error saving to ({}); no artifact was captured", artifactPath, e);
             }
-            return Optional.empty();
+            return false;
+        }
+    }
+    
+    /**
+     * Record the specified artifact event in the artifact manifest, if enabled.
+     * 
+     * @param event manifest event ({@link ArtifactManifest#SAVED SAVED} or
+     *     {@link ArtifactManifest#DISCARDED DISCARDED})
+     * @param artifactPath path at which the artifact was stored
+     * @param size artifact size in bytes (-1 if unknown)
+     */
+    private void recordManifestEntry(String event, Path artifactPath, long size) {
+        if (ArtifactManifest.isEnabled()) {
+            getDiscarder().recordManifestEntry(event, artifactPath, size);
         }
-        
-        recordArtifactPath(artifactPath);
-        return Optional.of(artifactPath);
     }
     
     /**
@@ -134,6 +454,15 @@ public class ArtifactCollector<T extends ArtifactType> extends AtomIdentity {
         return collectionPath.resolve(provider.getArtifactPath(getInstance()));
     }
     
+    /**
+     * Get path of the shared artifact store folder.
+     * 
+     * @return path of artifact store folder
+     */
+    private Path getStorePath() {
+        return PathUtils.ReportsDirectory.getPathForObject(getInstance()).resolve(ArtifactStore.STORE_PATH);
+    }
+    
     /**
      * Get base name for artifact files for the specified test result.
      * <br><br>
@@ -153,6 +482,24 @@ public class ArtifactCollector<T extends ArtifactType> extends AtomIdentity {
         }
     }
     
+    /**
+     * Get the stable identifier of the current test.
+     * 
+     * @return test identifier
+     */
+    private String getTestId() {
+        return DurationHistory.getTestId(getDescription().getClassName(), getDescription().getMethodName());
+    }
+    
+    /**
+     * Get the name of the artifact type of this collector.
+     * 
+     * @return artifact type name
+     */
+    private String getArtifactTypeName() {
+        return provider.getClass().getSimpleName();
+    }
+    
     /**
      * Get the target method name, replacing Windows file name reserved characters with '_'.
      * 
@@ -173,10 +520,14 @@ public class ArtifactCollector<T extends ArtifactType> extends AtomIdentity {
     
     /**
      * Retrieve the paths of artifacts that were stored in the indicated test result.
+     * <p>
+     * <b>NOTE</b>: This method waits for pending parallel captures and asynchronous writes to complete.
      * 
      * @return (optional) list of artifact paths
      */
     public Optional<List<Path>> retrieveArtifactPaths() {
+        awaitPendingCaptures();
+        awaitPendingWrites();
         if (artifactPaths.isEmpty()) {
             return Optional.empty();
         } else {
@@ -184,6 +535,26 @@ public class ArtifactCollector<T extends ArtifactType> extends AtomIdentity {
         }
     }
     
+    /**
+     * Wait for pending parallel artifact captures of this collector to complete.
+     */
+    private void awaitPendingCaptures() {
+        for (Future<?> pending : pendingCaptures) {
+            ArtifactCapturePool.await(pending);
+            pendingCaptures.remove(pending);
+        }
+    }
+    
+    /**
+     * Wait for pending asynchronous artifact writes of this collector to complete.
+     */
+    private void awaitPendingWrites() {
+        for (Future<?> pending : pendingWrites) {
+            ArtifactWriter.await(pending);
+            pendingWrites.remove(pending);
+        }
+    }
+    
     /**
      * Get the artifact provider object.
      * 
@@ -215,6 +586,62 @@ public class ArtifactCollector<T extends ArtifactType> extends AtomIdentity {
         return Optional.empty();
     }
 
+    /**
+     * Wait for pending asynchronous artifact writes of the watchers for the specified description to complete.
+     *
+     * @param description JUnit method description
+     */
+    static void awaitWritesOf(Description description) {
+        List<ArtifactCollector<? extends ArtifactType>> watcherList = WATCHER_MAP.get(description.hashCode());
+        if (watcherList != null) {
+            for (ArtifactCollector<? extends ArtifactType> watcher : watcherList) {
+                watcher.awaitPendingWrites();
+            }
+        }
+    }
+    
+    /**
+     * Resolve the snapshots taken by the watchers for the specified description.
+     *
+     * @param description JUnit method description
+     * @param failed {@code true} if the test finally failed; {@code false} if it passed or is being retried
+     */
+    static void resolveSnapshotsOf(Description description, final boolean failed) {
+        List<ArtifactCollector<? extends ArtifactType>> watcherList = WATCHER_MAP.get(description.hashCode());
+        if (watcherList != null) {
+            // if capturing in parallel
+            if (failed && ArtifactCapturePool.isEnabled()) {
+                for (final ArtifactCollector<? extends ArtifactType> watcher : watcherList) {
+                    watcher.pendingCaptures.add(ArtifactCapturePool.submit(new Runnable() {
+                        @Override
+                        public void run() {
+                            watcher.resolveSnapshots(true);
+                        }
+                    }));
+                }
+                awaitCapturesOf(description);
+            } else {
+                for (ArtifactCollector<? extends ArtifactType> watcher : watcherList) {
+                    watcher.resolveSnapshots(failed);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Wait for pending parallel artifact captures of the watchers for the specified description to complete.
+     *
+     * @param description JUnit method description
+     */
+    static void awaitCapturesOf(Description description) {
+        List<ArtifactCollector<? extends ArtifactType>> watcherList = WATCHER_MAP.get(description.hashCode());
+        if (watcherList != null) {
+            for (ArtifactCollector<? extends ArtifactType> watcher : watcherList) {
+                watcher.awaitPendingCaptures();
+            }
+        }
+    }
+    
     /**
      * Release the watchers for the specified description.
      *
@@ -223,5 +650,122 @@ public class ArtifactCollector<T extends ArtifactType> extends AtomIdentity {
     static void releaseWatchersOf(Description description) {
         WATCHER_MAP.remove(description.hashCode());
     }
+    
+    /**
+     * Get the active watcher with the specified identity key.
+     *
+     * @param watcherKey key of the watcher list for the watcher's description (see {@link #WATCHER_MAP})
+     * @param ownerKey identity key of the watcher (see {@link LifecycleHooks#toMapKey(Object)})
+     * @return active watcher; {@code null} if the watcher has been released
+     */
+    private static ArtifactCollector<? extends ArtifactType> getActiveWatcher(int watcherKey, String ownerKey) {
+        List<ArtifactCollector<? extends ArtifactType>> watcherList = WATCHER_MAP.get(watcherKey);
+        if (watcherList != null) {
+            for (ArtifactCollector<? extends ArtifactType> watcher : watcherList) {
+                if (toMapKey(watcher).equals(ownerKey)) {
+                    return watcher;
+                }
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * This class discards artifacts that are evicted from the artifact index and records artifact events in the
+     * artifact manifest. The artifact index retains discarders for the rest of the run, so this class captures the
+     * details of its collector instead of the collector itself (which retains the test class instance).
+     */
+    private static class Discarder implements ArtifactIndex.Discarder {
+        private final int watcherKey;
+        private final String ownerKey;
+        private final Path reportsPath;
+        private final Path storePath;
+        private final String testId;
+        private final String displayName;
+        private final String paramsHash;
+        private final String typeName;
+        private final Logger logger;
+        
+        Discarder(ArtifactCollector<? extends ArtifactType> collector) {
+            this.watcherKey = collector.getDescription().hashCode();
+            this.ownerKey = toMapKey(collector);
+            this.reportsPath = PathUtils.ReportsDirectory.getPathForObject(collector.getInstance());
+            this.storePath = collector.getStorePath();
+            this.testId = collector.getTestId();
+            this.displayName = collector.getDescription().getDisplayName();
+            this.paramsHash = String.format("%08X", collector.getParameters().hashCode());
+            this.typeName = collector.getArtifactTypeName();
+            this.logger = collector.provider.getLogger();
+        }
+        
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void discard(Path artifactPath) {
+            // if collector is still active, complete its writes and forget the artifact
+            ArtifactCollector<? extends ArtifactType> owner = getActiveWatcher(watcherKey, ownerKey);
+            if (owner != null) {
+                owner.awaitPendingWrites();
+                owner.artifactPaths.remove(artifactPath);
+            }
+            if (release(artifactPath) && (logger != null)) {
+                logger.info("Discarded artifact ({}) per retention policy.", artifactPath);
+            }
+        }
+        
+        /**
+         * Delete the specified artifact from the artifact store and record its removal in the artifact manifest.
+         * 
+         * @param artifactPath path at which the artifact was stored
+         * @return {@code true} if the artifact was deleted; otherwise {@code false}
+         */
+        boolean release(Path artifactPath) {
+            try {
+                ArtifactStore.getConfigured().discard(artifactPath, storePath);
+            } catch (IOException e) {
+                if (logger != null) {
+                    logger.warn("Unable to discard artifact ({})", artifactPath, e);
+                }
+                return false;
+            }
+            if (ArtifactManifest.isEnabled()) {
+                recordManifestEntry(ArtifactManifest.DISCARDED, artifactPath, -1);
+            }
+            return true;
+        }
+        
+        /**
+         * Record the specified artifact event in the artifact manifest.
+         * 
+         * @param event manifest event ({@link ArtifactManifest#SAVED SAVED} or
+         *     {@link ArtifactManifest#DISCARDED DISCARDED})
+         * @param artifactPath path at which the artifact was stored
+         * @param size artifact size in bytes (-1 if unknown)
+         */
+        void recordManifestEntry(String event, Path artifactPath, long size) {
+            try {
+                ArtifactManifest.getManifest(reportsPath)
+                                .append(event, testId, displayName, paramsHash, typeName, artifactPath, size);
+            } catch (IOException e) {
+                if (logger != null) {
+                    logger.warn("Unable to open artifact manifest", e);
+                }
+            }
+        }
+    }
+    
+    /**
+     * This class represents a snapshot taken on test failure for deferred artifact capture.
+     */
+    private static class Snapshot {
+        private final Object handle;
+        private final Throwable reason;
+        
+        Snapshot(Object handle, Throwable reason) {
+            this.handle = handle;
+            this.reason = reason;
+        }
+    }
 
 }
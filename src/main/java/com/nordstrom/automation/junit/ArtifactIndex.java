@@ -0,0 +1,283 @@
+package com.nordstrom.automation.junit;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.nordstrom.automation.junit.JUnitConfig.JUnitSettings;
+
+/**
+ * This class maintains the in-memory index of artifacts captured during the current run, which is used to enforce
+ * artifact retention quotas. Quotas can be specified for the number of artifacts per test, per test class, and per
+ * run, and for the total number of bytes per run. When a quota is exceeded, the eviction policy specified by the
+ * {@link JUnitSettings#ARTIFACT_EVICTION ARTIFACT_EVICTION} setting determines which artifacts are retained:
+ * <ul>
+ *     <li><b>KEEP_FIRST</b>: Once a quota is reached, further artifacts in its scope aren't captured.</li>
+ *     <li><b>KEEP_LAST</b>: The oldest artifacts in the scope of the exceeded quota are deleted.</li>
+ * </ul>
+ * If the {@link JUnitSettings#ARTIFACT_DROP_PASSED_RETRIES ARTIFACT_DROP_PASSED_RETRIES} setting is enabled, artifacts
+ * captured by failed attempts of a test that eventually passes are also deleted.
+ * <p>
+ * <b>NOTE</b>: The index is reset at the start of each test run, which spans all of the test classes that share a run
+ * notifier (e.g. - all classes of a Surefire run), so quotas apply to the whole run. Quotas of the content-addressed
+ * store apply to reference files; shared blobs are retained.
+ */
+class ArtifactIndex {
+
+    private static final Set<Entry> ENTRIES = new LinkedHashSet<>();
+    private static final Map<String, Integer> TEST_COUNTS = new HashMap<>();
+    private static final Map<String, Integer> CLASS_COUNTS = new HashMap<>();
+    private static long totalBytes;
+    private static volatile QuotaSettings settings;
+
+    private ArtifactIndex() {
+        throw new AssertionError("ArtifactIndex is a static utility class that cannot be instantiated");
+    }
+
+    /**
+     * Determine if artifact retention quotas are being enforced.
+     *
+     * @return {@code true} if quotas are enforced; otherwise {@code false}
+     */
+    static boolean isEnabled() {
+        return getSettings().enabled;
+    }
+
+    /**
+     * Determine if artifacts captured by failed attempts of tests that eventually pass are discarded.
+     *
+     * @return {@code true} if artifacts of passed retries are discarded; otherwise {@code false}
+     */
+    static boolean dropPassedRetries() {
+        return getSettings().dropPassedRetries;
+    }
+
+    /**
+     * Determine if there's room for another artifact in the scope of the specified test.
+     * <p>
+     * <b>NOTE</b>: With the <b>KEEP_LAST</b> policy, room is always made by evicting older artifacts.
+     *
+     * @param testId test identifier
+     * @param className test class name
+     * @return {@code true} if an artifact can be captured; otherwise {@code false}
+     */
+    static synchronized boolean hasRoom(final String testId, final String className) {
+        QuotaSettings quotas = getSettings();
+        if (quotas.keepLast) return true;
+        return !exceeds(count(TEST_COUNTS, testId), quotas.maxPerTest)
+                && !exceeds(count(CLASS_COUNTS, className), quotas.maxPerClass)
+                && !exceeds(ENTRIES.size(), quotas.maxPerRun)
+                && !exceeds(totalBytes, quotas.maxBytes);
+    }
+
+    /**
+     * Add the specified artifact to the index, evicting artifacts as needed to satisfy configured quotas.
+     *
+     * @param added indexed artifact
+     * @return list of evicted artifacts (may include the specified artifact)
+     */
+    static synchronized List<Entry> admit(final Entry added) {
+        QuotaSettings quotas = getSettings();
+        String testId = added.testId;
+        String className = added.className;
+        add(added);
+
+        List<Entry> evicted = new ArrayList<>();
+        while (true) {
+            Entry victim;
+            if (exceeds(count(TEST_COUNTS, testId) - 1, quotas.maxPerTest)) {
+                victim = select(added, testId, null);
+            } else if (exceeds(count(CLASS_COUNTS, className) - 1, quotas.maxPerClass)) {
+                victim = select(added, null, className);
+            } else if (exceeds(ENTRIES.size() - 1, quotas.maxPerRun) || exceeds(totalBytes - 1, quotas.maxBytes)) {
+                victim = select(added, null, null);
+            } else {
+                break;
+            }
+            remove(victim);
+            evicted.add(victim);
+            // if new artifact evicted, done
+            if (victim == added) break;
+        }
+        return evicted;
+    }
+
+    /**
+     * Remove artifacts of the specified atomic test that were captured by other collectors (i.e. - failed attempts).
+     *
+     * @param attemptKey key of the atomic test (see {@link Entry#attemptKey})
+     * @param ownerKey key of the collector of the passing attempt
+     * @return list of removed artifacts
+     */
+    static synchronized List<Entry> releaseRetriesOf(final String attemptKey, final String ownerKey) {
+        List<Entry> released = new ArrayList<>();
+        for (Entry entry : new ArrayList<>(ENTRIES)) {
+            if (entry.attemptKey.equals(attemptKey) && !entry.ownerKey.equals(ownerKey)) {
+                remove(entry);
+                released.add(entry);
+            }
+        }
+        return released;
+    }
+
+    /**
+     * Remove the specified artifact from the index (e.g. - because it couldn't be written).
+     *
+     * @param artifactPath path at which the artifact was to be stored
+     * @return {@code true} if the artifact was indexed; {@code false} if it was already evicted or released
+     */
+    static synchronized boolean release(final Path artifactPath) {
+        for (Entry entry : ENTRIES) {
+            if (entry.path.equals(artifactPath)) {
+                remove(entry);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Discard the index and quota settings. This is invoked at the start of each test run.
+     */
+    static synchronized void reset() {
+        ENTRIES.clear();
+        TEST_COUNTS.clear();
+        CLASS_COUNTS.clear();
+        totalBytes = 0;
+        settings = null;
+    }
+
+    /**
+     * Select the artifact to evict for the specified scope.
+     *
+     * @param added artifact being added
+     * @param testId test identifier of scope; {@code null} for any
+     * @param className test class name of scope; {@code null} for any
+     * @return artifact to evict
+     */
+    private static Entry select(final Entry added, final String testId, final String className) {
+        // if keeping first, evict the newcomer
+        if (!getSettings().keepLast) return added;
+        for (Entry entry : ENTRIES) {
+            if ((testId != null) && !testId.equals(entry.testId)) continue;
+            if ((className != null) && !className.equals(entry.className)) continue;
+            return entry;
+        }
+        return added;
+    }
+
+    private static void add(final Entry entry) {
+        ENTRIES.add(entry);
+        TEST_COUNTS.put(entry.testId, count(TEST_COUNTS, entry.testId) + 1);
+        CLASS_COUNTS.put(entry.className, count(CLASS_COUNTS, entry.className) + 1);
+        totalBytes += entry.size;
+    }
+
+    private static void remove(final Entry entry) {
+        ENTRIES.remove(entry);
+        TEST_COUNTS.put(entry.testId, count(TEST_COUNTS, entry.testId) - 1);
+        CLASS_COUNTS.put(entry.className, count(CLASS_COUNTS, entry.className) - 1);
+        totalBytes -= entry.size;
+    }
+
+    private static int count(final Map<String, Integer> counts, final String key) {
+        Integer count = counts.get(key);
+        return (count != null) ? count : 0;
+    }
+
+    /**
+     * Determine if the specified value reaches the indicated limit.
+     *
+     * @param value current value
+     * @param limit configured limit; negative if unlimited
+     * @return {@code true} if the limit is reached; otherwise {@code false}
+     */
+    private static boolean exceeds(final long value, final long limit) {
+        return (limit >= 0) && (value >= limit);
+    }
+
+    /**
+     * Get the quota settings for the current run.
+     *
+     * @return {@link QuotaSettings} object
+     */
+    private static QuotaSettings getSettings() {
+        QuotaSettings current = settings;
+        if (current == null) {
+            current = new QuotaSettings(LifecycleHooks.getConfig());
+            settings = current;
+        }
+        return current;
+    }
+
+    /**
+     * This interface defines the object that discards an indexed artifact when it's evicted or released.
+     * <p>
+     * <b>NOTE</b>: Discarders are retained by the index for the rest of the run, so they must not retain the
+     * collector that captured the artifact (which retains the test class instance).
+     */
+    interface Discarder {
+
+        /**
+         * Discard the specified artifact.
+         *
+         * @param artifactPath path at which the artifact was stored
+         */
+        void discard(Path artifactPath);
+    }
+
+    /**
+     * This class represents an indexed artifact.
+     */
+    static class Entry {
+        final Path path;
+        final String testId;
+        final String className;
+        final long size;
+        /** key that identifies the atomic test (shared by all attempts of the test) */
+        final String attemptKey;
+        /** key that identifies the collector that captured the artifact */
+        final String ownerKey;
+        final Discarder discarder;
+
+        Entry(final Path path, final String testId, final String className, final long size, final String attemptKey,
+                final String ownerKey, final Discarder discarder) {
+            this.path = path;
+            this.testId = testId;
+            this.className = className;
+            this.size = size;
+            this.attemptKey = attemptKey;
+            this.ownerKey = ownerKey;
+            this.discarder = discarder;
+        }
+    }
+
+    /**
+     * This class captures the artifact retention quota settings for a run.
+     */
+    private static class QuotaSettings {
+        final long maxPerTest;
+        final long maxPerClass;
+        final long maxPerRun;
+        final long maxBytes;
+        final boolean keepLast;
+        final boolean dropPassedRetries;
+        final boolean enabled;
+
+        QuotaSettings(final JUnitConfig config) {
+            maxPerTest = config.getLong(JUnitSettings.ARTIFACT_MAX_PER_TEST.key(), -1L);
+            maxPerClass = config.getLong(JUnitSettings.ARTIFACT_MAX_PER_CLASS.key(), -1L);
+            maxPerRun = config.getLong(JUnitSettings.ARTIFACT_MAX_PER_RUN.key(), -1L);
+            maxBytes = config.getLong(JUnitSettings.ARTIFACT_MAX_BYTES.key(), -1L);
+            keepLast = "KEEP_LAST".equalsIgnoreCase(config.getString(JUnitSettings.ARTIFACT_EVICTION.key(), "").trim());
+            dropPassedRetries = config.getBoolean(JUnitSettings.ARTIFACT_DROP_PASSED_RETRIES.key(), false);
+            enabled = (maxPerTest >= 0) || (maxPerClass >= 0) || (maxPerRun >= 0) || (maxBytes >= 0)
+                    || dropPassedRetries;
+        }
+    }
+}
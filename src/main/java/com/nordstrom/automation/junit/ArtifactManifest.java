@@ -0,0 +1,193 @@
+package com.nordstrom.automation.junit;
+
+import static com.nordstrom.automation.junit.LifecycleHooks.getConfig;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.nordstrom.automation.junit.JUnitConfig.JUnitSettings;
+import com.nordstrom.common.file.PathUtils;
+
+/**
+ * This class implements the machine-readable artifact manifest that's written when the
+ * {@link JUnitSettings#ARTIFACT_MANIFEST ARTIFACT_MANIFEST} setting is enabled. As each artifact is saved by
+ * {@link ArtifactCollector}, a line describing it is appended to a <a href="https://jsonlines.org">JSON Lines</a>
+ * manifest (<b>artifact-manifest.jsonl</b>) in the reports directory:
+ * <pre>
+ * {"event":"saved","testId":"...","description":"...","parameters":"00000000","artifactType":"...",
+ *  "path":"...","size":1234,"time":"2024-01-01T00:00:00Z"}
+ * </pre>
+ * The <b>path</b> of each artifact is relative to the reports directory. If an artifact is later deleted (e.g. - by
+ * a retention quota, or because its asynchronous write failed), a line with an <b>event</b> of <b>discarded</b> is
+ * appended for it.
+ * <p>
+ * <b>NOTE</b>: A new manifest is started for each test run, which spans all of the test classes that share a run
+ * notifier (e.g. - all classes of a Surefire run). Lines are flushed in batches, the size of which is specified by the
+ * {@link JUnitSettings#ARTIFACT_MANIFEST_BATCH ARTIFACT_MANIFEST_BATCH} setting. Manifests are flushed and closed when
+ * the next test run starts and at shutdown (see {@link RunLifecycle}).
+ */
+class ArtifactManifest {
+
+    static final String MANIFEST_NAME = "artifact-manifest";
+    static final String MANIFEST_EXTENSION = "jsonl";
+    static final String SAVED = "saved";
+    static final String DISCARDED = "discarded";
+
+    private static final Map<Path, ArtifactManifest> MANIFESTS = new HashMap<>();
+    private static final Logger LOGGER = LoggerFactory.getLogger(ArtifactManifest.class);
+
+    private final Path reportsPath;
+    private final BufferedWriter writer;
+    private final int batchSize;
+    private int pending;
+
+    /**
+     * Constructor: Create a new artifact manifest in the specified reports directory.
+     *
+     * @param reportsPath path of the reports directory
+     * @throws IOException if an I/O error occurs
+     */
+    private ArtifactManifest(final Path reportsPath) throws IOException {
+        Files.createDirectories(reportsPath);
+        this.reportsPath = reportsPath;
+        Path manifestPath = PathUtils.getNextPath(reportsPath, MANIFEST_NAME, MANIFEST_EXTENSION);
+        writer = Files.newBufferedWriter(manifestPath, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        batchSize = Math.max(1, getConfig().getInt(JUnitSettings.ARTIFACT_MANIFEST_BATCH.key(), 32));
+        LOGGER.debug("Opened artifact manifest: {}", manifestPath);
+    }
+
+    /**
+     * Determine if the artifact manifest is being written.
+     *
+     * @return {@code true} if the artifact manifest is enabled; otherwise {@code false}
+     */
+    static boolean isEnabled() {
+        return getConfig().getBoolean(JUnitSettings.ARTIFACT_MANIFEST.key(), false);
+    }
+
+    /**
+     * Get the artifact manifest for the current run in the specified reports directory, creating it if needed.
+     *
+     * @param reportsPath path of the reports directory
+     * @return {@link ArtifactManifest} object
+     * @throws IOException if an I/O error occurs
+     */
+    static synchronized ArtifactManifest getManifest(final Path reportsPath) throws IOException {
+        Path key = reportsPath.toAbsolutePath().normalize();
+        ArtifactManifest manifest = MANIFESTS.get(key);
+        if (manifest == null) {
+            manifest = new ArtifactManifest(key);
+            MANIFESTS.put(key, manifest);
+        }
+        return manifest;
+    }
+
+    /**
+     * Flush and close all open artifact manifests. This is invoked at the start of each test run and at shutdown.
+     */
+    static synchronized void closeAll() {
+        for (ArtifactManifest manifest : MANIFESTS.values()) {
+            manifest.close();
+        }
+        MANIFESTS.clear();
+    }
+
+    /**
+     * Append an entry to this manifest.
+     *
+     * @param event manifest event ({@link #SAVED} or {@link #DISCARDED})
+     * @param testId test identifier
+     * @param description test display name
+     * @param parameters hash code of test parameters, as an 8-digit hexadecimal integer
+     * @param artifactType artifact type name
+     * @param artifactPath path at which the artifact was stored
+     * @param size artifact size in bytes (-1 if unknown)
+     */
+    synchronized void append(final String event, final String testId, final String description,
+            final String parameters, final String artifactType, final Path artifactPath, final long size) {
+
+        Path absolute = artifactPath.toAbsolutePath().normalize();
+        String name = absolute.startsWith(reportsPath) ? reportsPath.relativize(absolute).toString() : absolute.toString();
+        StringBuilder line = new StringBuilder("{");
+        line.append("\"event\":").append(quote(event));
+        line.append(",\"testId\":").append(quote(testId));
+        line.append(",\"description\":").append(quote(description));
+        line.append(",\"parameters\":").append(quote(parameters));
+        line.append(",\"artifactType\":").append(quote(artifactType));
+        line.append(",\"path\":").append(quote(name.replace('\\', '/')));
+        line.append(",\"size\":").append(size);
+        line.append(",\"time\":").append(quote(Instant.now().toString()));
+        line.append("}");
+
+        try {
+            writer.write(line.toString());
+            writer.newLine();
+            // if batch is complete
+            if (++pending >= batchSize) {
+                writer.flush();
+                pending = 0;
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Unable to update artifact manifest", e);
+        }
+    }
+
+    /**
+     * Flush and close this artifact manifest.
+     */
+    private synchronized void close() {
+        try {
+            writer.close();
+        } catch (IOException e) {
+            LOGGER.warn("Unable to close artifact manifest", e);
+        }
+    }
+
+    /**
+     * Convert the specified string to a quoted JSON string literal.
+     *
+     * @param value string value; may be {@code null}
+     * @return JSON string literal (or {@code null})
+     */
+    private static String quote(final String value) {
+        if (value == null) return "null";
+        StringBuilder builder = new StringBuilder(value.length() + 2).append('"');
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"':
+                    builder.append("\\\"");
+                    break;
+                case '\\':
+                    builder.append("\\\\");
+                    break;
+                case '\n':
+                    builder.append("\\n");
+                    break;
+                case '\r':
+                    builder.append("\\r");
+                    break;
+                case '\t':
+                    builder.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        builder.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        builder.append(c);
+                    }
+            }
+        }
+        return builder.append('"').toString();
+    }
+}
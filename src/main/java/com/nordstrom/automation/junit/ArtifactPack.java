@@ -0,0 +1,268 @@
+package com.nordstrom.automation.junit;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.nordstrom.common.file.PathUtils;
+
+/**
+ * This class implements the append-only artifact pack used by the {@link ArtifactStore#PACK PACK} storage strategy.
+ * All artifacts captured during a run are appended to a single pack file in the <b>artifact-store</b> folder of the
+ * reports directory. Each artifact is described by a line in the accompanying index file (with a <b>.idx</b> suffix),
+ * which holds tab-separated values:
+ * <blockquote>
+ * <i>offset</i> <i>length</i> <i>test-id</i> <i>artifact-type</i> <i>name</i>
+ * </blockquote>
+ * The <i>name</i> is the path of the artifact relative to the reports directory, which is where the artifact would
+ * be stored by the {@link ArtifactStore#FILE FILE} strategy. Entries with a <i>length</i> of -1 record the discard of
+ * a previously stored artifact. Use {@link PackExtractor} to read or extract packed artifacts.
+ * <p>
+ * <b>NOTE</b>: A new pack is started for each test run, which spans all of the test classes that share a run notifier
+ * (e.g. - all classes of a Surefire run). Packs are closed when the next test run starts and at shutdown (see
+ * {@link RunLifecycle}).
+ */
+class ArtifactPack {
+
+    static final String PACK_NAME = "artifacts";
+    static final String PACK_EXTENSION = "pack";
+    static final String INDEX_SUFFIX = ".idx";
+
+    private static final int BUFFER_SIZE = 65536;
+    private static final Map<Path, ArtifactPack> PACKS = new HashMap<>();
+    private static final Logger LOGGER = LoggerFactory.getLogger(ArtifactPack.class);
+
+    private final Path storePath;
+    private final Path reportsPath;
+    private final FileChannel channel;
+    private final BufferedWriter index;
+    private final ReentrantLock appendLock = new ReentrantLock();
+
+    /**
+     * Constructor: Create a new artifact pack in the specified store folder.
+     *
+     * @param storePath path of the artifact store folder
+     * @throws IOException if an I/O error occurs
+     */
+    private ArtifactPack(final Path storePath) throws IOException {
+        Files.createDirectories(storePath);
+        this.storePath = storePath;
+        reportsPath = storePath.toAbsolutePath().getParent();
+        Path packPath = PathUtils.getNextPath(storePath, PACK_NAME, PACK_EXTENSION);
+        channel = FileChannel.open(packPath, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        index = Files.newBufferedWriter(packPath.resolveSibling(packPath.getFileName() + INDEX_SUFFIX),
+                StandardCharsets.UTF_8, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        LOGGER.debug("Opened artifact pack: {}", packPath);
+    }
+
+    /**
+     * Get the artifact pack for the current run in the specified store folder, creating it if needed.
+     *
+     * @param storePath path of the artifact store folder
+     * @return {@link ArtifactPack} object
+     * @throws IOException if an I/O error occurs
+     */
+    static synchronized ArtifactPack getPack(final Path storePath) throws IOException {
+        Path key = storePath.toAbsolutePath().normalize();
+        ArtifactPack pack = PACKS.get(key);
+        if (pack == null) {
+            pack = new ArtifactPack(key);
+            PACKS.put(key, pack);
+        }
+        return pack;
+    }
+
+    /**
+     * Close all open artifact packs. This is invoked at the start of each test run and at shutdown.
+     */
+    static synchronized void closeAll() {
+        for (ArtifactPack pack : PACKS.values()) {
+            pack.close();
+        }
+        PACKS.clear();
+    }
+
+    /**
+     * Open an output stream that appends an artifact to this pack. The artifact is spooled as it's written (in memory,
+     * or in a temporary file of the store folder if it's large), and is appended to the pack and added to the index
+     * when the stream is closed. The pack is only locked while the spooled artifact is appended, so artifacts can be
+     * written to the pack concurrently.
+     * <p>
+     * <b>NOTE</b>: If no content was written, no index entry is added.
+     *
+     * @param artifactPath allocated artifact path
+     * @param testId test identifier
+     * @param artifactType artifact type name
+     * @return output stream to which the artifact is written
+     */
+    OutputStream newOutputStream(final Path artifactPath, final String testId, final String artifactType) {
+        return new SpoolOutputStream(artifactPath, testId, artifactType);
+    }
+
+    /**
+     * Record the discard of the specified artifact in the index of this pack.
+     *
+     * @param artifactPath allocated artifact path
+     * @throws IOException if an I/O error occurs
+     */
+    void discard(final Path artifactPath) throws IOException {
+        appendLock.lock();
+        try {
+            appendIndex(-1, -1, "", "", artifactPath);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Append an entry to the index of this pack.
+     *
+     * @param offset artifact offset in pack
+     * @param length artifact length in bytes
+     * @param testId test identifier
+     * @param artifactType artifact type name
+     * @param artifactPath allocated artifact path
+     * @throws IOException if an I/O error occurs
+     */
+    private void appendIndex(final long offset, final long length, final String testId, final String artifactType,
+            final Path artifactPath) throws IOException {
+        Path absolute = artifactPath.toAbsolutePath().normalize();
+        String name = absolute.startsWith(reportsPath) ? reportsPath.relativize(absolute).toString() : absolute.toString();
+        index.write(offset + "\t" + length + "\t" + testId + "\t" + artifactType + "\t" + name.replace('\\', '/'));
+        index.newLine();
+        index.flush();
+    }
+
+    /**
+     * Append the specified spooled artifact to this pack and add it to the index.
+     *
+     * @param spooled artifact content held in memory; {@code null} if spooled to a file
+     * @param spoolPath path of file that holds artifact content; {@code null} if held in memory
+     * @param artifactPath allocated artifact path
+     * @param testId test identifier
+     * @param artifactType artifact type name
+     * @throws IOException if an I/O error occurs
+     */
+    private void append(final ByteArrayOutputStream spooled, final Path spoolPath, final Path artifactPath,
+            final String testId, final String artifactType) throws IOException {
+        appendLock.lock();
+        try {
+            long offset = channel.position();
+            long length;
+            if (spoolPath != null) {
+                try (FileChannel source = FileChannel.open(spoolPath, StandardOpenOption.READ)) {
+                    length = source.size();
+                    long transferred = 0;
+                    while (transferred < length) {
+                        transferred += source.transferTo(transferred, length - transferred, channel);
+                    }
+                }
+            } else {
+                ByteBuffer content = ByteBuffer.wrap(spooled.toByteArray());
+                length = content.remaining();
+                while (content.hasRemaining()) {
+                    channel.write(content);
+                }
+            }
+            if (length > 0) {
+                appendIndex(offset, length, testId, artifactType, artifactPath);
+            }
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Close this artifact pack.
+     */
+    private void close() {
+        appendLock.lock();
+        try {
+            index.close();
+            channel.close();
+        } catch (IOException e) {
+            LOGGER.warn("Unable to close artifact pack", e);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * This class spools an artifact as it's written, and appends it to the pack when closed. Content is held in memory
+     * until it exceeds the buffer size, at which point it's moved to a temporary file.
+     */
+    private class SpoolOutputStream extends OutputStream {
+        private final Path artifactPath;
+        private final String testId;
+        private final String artifactType;
+        private ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        private Path spoolPath;
+        private OutputStream spool;
+        private boolean closed;
+
+        SpoolOutputStream(final Path artifactPath, final String testId, final String artifactType) {
+            this.artifactPath = artifactPath;
+            this.testId = testId;
+            this.artifactType = artifactType;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] { (byte) b }, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            // if spooling in memory and buffer size would be exceeded
+            if ((spool == null) && (buffer.size() + len > BUFFER_SIZE)) {
+                // move content to temporary file
+                spoolPath = Files.createTempFile(storePath, PACK_NAME, ".tmp");
+                spool = new BufferedOutputStream(Files.newOutputStream(spoolPath), BUFFER_SIZE);
+                buffer.writeTo(spool);
+                buffer = null;
+            }
+            if (spool != null) {
+                spool.write(b, off, len);
+            } else {
+                buffer.write(b, off, len);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (spool != null) {
+                spool.flush();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) return;
+            closed = true;
+            try {
+                if (spool != null) {
+                    spool.close();
+                }
+                append(buffer, spoolPath, artifactPath, testId, artifactType);
+            } finally {
+                if (spoolPath != null) {
+                    Files.deleteIfExists(spoolPath);
+                }
+            }
+        }
+    }
+}
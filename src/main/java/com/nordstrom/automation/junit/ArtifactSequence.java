@@ -0,0 +1,121 @@
+package com.nordstrom.automation.junit;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.nordstrom.common.base.UncheckedThrow;
+
+/**
+ * This class maintains an in-memory index of the next sequence number for each combination of artifact folder, base
+ * name, and extension. It allocates artifact paths with the same naming scheme as
+ * {@link com.nordstrom.common.file.PathUtils#getNextPath(Path, String, String) PathUtils.getNextPath}: the first
+ * artifact is named <i>base-name</i>.<i>extension</i>, followed by <i>base-name</i>-<i>N</i>.<i>extension</i>,
+ * where <i>N</i> increases from 1.
+ * <p>
+ * Each folder is listed once, when first accessed, to seed the sequence numbers that follow existing artifacts.
+ * After that, allocation requires no I/O and never produces the same path twice, even under parallel capture.
+ * <p>
+ * <b>NOTE</b>: The index is reset at the start of each test run. Files added to a folder by other means after it has been
+ * seeded are not detected.
+ */
+class ArtifactSequence {
+
+    private static final ConcurrentMap<Path, List<String>> FOLDER_LISTINGS = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, AtomicInteger> SEQUENCES = new ConcurrentHashMap<>();
+
+    private ArtifactSequence() {
+        throw new AssertionError("ArtifactSequence is a static utility class that cannot be instantiated");
+    }
+
+    /**
+     * Get the next path for the specified folder, base name, and extension.
+     *
+     * @param folderPath path of artifact folder
+     * @param baseName artifact base name
+     * @param extension artifact file extension
+     * @return next artifact path
+     */
+    static Path getNextPath(final Path folderPath, final String baseName, final String extension) {
+        final Path folder = folderPath.toAbsolutePath().normalize();
+        String key = folder + "|" + baseName + "|" + extension;
+        AtomicInteger sequence = LifecycleHooks.computeIfAbsent(SEQUENCES, key,
+                new Function<String, AtomicInteger>() {
+                    @Override
+                    public AtomicInteger apply(String input) {
+                        return new AtomicInteger(seed(folder, baseName, extension));
+                    }
+                });
+
+        int index = sequence.getAndIncrement();
+        if (index == 0) {
+            return folder.resolve(baseName + "." + extension);
+        }
+        return folder.resolve(baseName + "-" + index + "." + extension);
+    }
+
+    /**
+     * Discard cached folder listings and sequence numbers. This is invoked at the start of each test run.
+     */
+    static void reset() {
+        SEQUENCES.clear();
+        FOLDER_LISTINGS.clear();
+    }
+
+    /**
+     * Get the first unused sequence number for the specified folder, base name, and extension.
+     *
+     * @param folder path of artifact folder
+     * @param baseName artifact base name
+     * @param extension artifact file extension
+     * @return first unused sequence number (0 if no artifacts exist)
+     */
+    private static int seed(final Path folder, final String baseName, final String extension) {
+        Pattern pattern = Pattern.compile(Pattern.quote(baseName) + "(?:-(\\d+))?" + Pattern.quote("." + extension));
+        int next = 0;
+        for (String fileName : getListing(folder)) {
+            Matcher matcher = pattern.matcher(fileName);
+            if (matcher.matches()) {
+                int index = (matcher.group(1) != null) ? Integer.parseInt(matcher.group(1)) : 0;
+                next = Math.max(next, index + 1);
+            }
+        }
+        return next;
+    }
+
+    /**
+     * Get the listing of the specified folder, reading it if needed.
+     *
+     * @param folder path of artifact folder
+     * @return list of file names
+     */
+    private static List<String> getListing(final Path folder) {
+        return LifecycleHooks.computeIfAbsent(FOLDER_LISTINGS, folder, new Function<Path, List<String>>() {
+            @Override
+            public List<String> apply(Path input) {
+                List<String> fileNames = new ArrayList<>();
+                try (DirectoryStream<Path> stream = Files.newDirectoryStream(input)) {
+                    for (Path path : stream) {
+                        fileNames.add(path.getFileName().toString());
+                    }
+                } catch (NoSuchFileException e) {
+                    return Collections.emptyList();
+                } catch (IOException e) {
+                    throw UncheckedThrow.throwUnchecked(e);
+                }
+                return fileNames;
+            }
+        });
+    }
+}
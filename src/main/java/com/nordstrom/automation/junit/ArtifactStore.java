@@ -0,0 +1,328 @@
+package com.nordstrom.automation.junit;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.nordstrom.automation.junit.JUnitConfig.JUnitSettings;
+import com.nordstrom.common.base.UncheckedThrow;
+
+/**
+ * This enumeration defines the storage strategies for artifacts captured by {@link ArtifactCollector}. The active
+ * strategy is specified by the {@link JUnitSettings#ARTIFACT_STORE ARTIFACT_STORE} setting.
+ * <ul>
+ *     <li>{@link #FILE}: Each artifact is stored as-is in its own file.</li>
+ *     <li>{@link #CAS}: Artifact content is hashed with SHA-256 and each unique blob is stored once, compressed with
+ *     GZIP, in the <b>artifact-store</b> folder of the reports directory. For each captured artifact, a lightweight
+ *     reference file (with a <b>.ref</b> suffix) is written in place of the artifact.</li>
+ *     <li>{@link #PACK}: All artifacts of a run are appended to a single pack file in the <b>artifact-store</b>
+ *     folder of the reports directory, described by an accompanying index (see {@link ArtifactPack}). No per-artifact
+ *     files are created; packed artifacts are accessed via {@link PackExtractor}.</li>
+ * </ul>
+ * Use {@link #readArtifact(Path)} to retrieve the content of an artifact stored with the {@link #FILE FILE} or
+ * {@link #CAS CAS} strategy.
+ */
+public enum ArtifactStore {
+
+    /**
+     * Each artifact is stored as-is in its own file.
+     */
+    FILE {
+        @Override
+        String getExtension(final String extension) {
+            return extension;
+        }
+
+        @Override
+        OutputStream newOutputStream(final Path artifactPath, final Path storePath, final String testId,
+                final String artifactType) throws IOException {
+            return new BufferedOutputStream(Files.newOutputStream(artifactPath));
+        }
+    },
+
+    /**
+     * Each unique artifact is stored once as a compressed blob, referenced by per-test reference files.
+     */
+    CAS {
+        @Override
+        String getExtension(final String extension) {
+            return extension + REF_SUFFIX;
+        }
+
+        @Override
+        OutputStream newOutputStream(final Path artifactPath, final Path storePath, final String testId,
+                final String artifactType) throws IOException {
+            return new BlobOutputStream(artifactPath, storePath);
+        }
+    },
+
+    /**
+     * All artifacts of a run are appended to a single indexed pack file.
+     */
+    PACK {
+        @Override
+        String getExtension(final String extension) {
+            return extension;
+        }
+
+        @Override
+        boolean isFileBased() {
+            return false;
+        }
+
+        @Override
+        void reserve(final Path artifactPath) {
+            // names are reserved when allocated
+        }
+
+        @Override
+        OutputStream newOutputStream(final Path artifactPath, final Path storePath, final String testId,
+                final String artifactType) throws IOException {
+            return ArtifactPack.getPack(storePath).newOutputStream(artifactPath, testId, artifactType);
+        }
+
+        @Override
+        void discard(final Path artifactPath, final Path storePath) throws IOException {
+            ArtifactPack.getPack(storePath).discard(artifactPath);
+        }
+    };
+
+    static final String STORE_PATH = "artifact-store";
+    static final String REF_SUFFIX = ".ref";
+    private static final String BLOB_EXTENSION = ".gz";
+    private static final String SHA_256 = "SHA-256";
+    private static final String SHA_KEY = "sha256=";
+    private static final String SIZE_KEY = "size=";
+    private static final String BLOB_KEY = "blob=";
+
+    /**
+     * Get the file extension for artifacts of the specified extension stored with this strategy.
+     *
+     * @param extension artifact file extension
+     * @return stored file extension
+     */
+    abstract String getExtension(String extension);
+
+    /**
+     * Determine if this strategy stores artifacts in per-artifact files within collection folders.
+     *
+     * @return {@code true} if artifacts are stored in collection folders; otherwise {@code false}
+     */
+    boolean isFileBased() {
+        return true;
+    }
+
+    /**
+     * Get the path at which to store the next artifact with the specified base name and extension.
+     * <p>
+     * <b>NOTE</b>: Paths are allocated from an in-memory sequence index (see {@link ArtifactSequence}).
+     *
+     * @param collectionPath path of artifact collection folder
+     * @param baseName artifact base name
+     * @param extension artifact file extension
+     * @return path at which to store the next artifact
+     * @throws IOException if an I/O error occurs while seeding the index
+     */
+    Path getNextPath(final Path collectionPath, final String baseName, final String extension) throws IOException {
+        return ArtifactSequence.getNextPath(collectionPath, baseName, getExtension(extension));
+    }
+
+    /**
+     * Reserve the specified artifact path for a pending asynchronous write.
+     *
+     * @param artifactPath path of the artifact file
+     * @throws IOException if an I/O error occurs
+     */
+    void reserve(final Path artifactPath) throws IOException {
+        Files.createFile(artifactPath);
+    }
+
+    /**
+     * Open an output stream that stores an artifact at the specified path with this strategy. The artifact is
+     * committed to storage when the stream is closed.
+     *
+     * @param artifactPath path of the artifact file
+     * @param storePath path of the shared artifact store folder
+     * @param testId identifier of the test that captured the artifact
+     * @param artifactType name of the artifact type
+     * @return output stream to which the artifact is written
+     * @throws IOException if an I/O error occurs
+     */
+    abstract OutputStream newOutputStream(Path artifactPath, Path storePath, String testId, String artifactType)
+            throws IOException;
+
+    /**
+     * Store the specified artifact at the indicated path with this strategy.
+     *
+     * @param artifactPath path of the artifact file
+     * @param storePath path of the shared artifact store folder
+     * @param testId identifier of the test that captured the artifact
+     * @param artifactType name of the artifact type
+     * @param artifact captured artifact
+     * @throws IOException if an I/O error occurs
+     */
+    void write(final Path artifactPath, final Path storePath, final String testId, final String artifactType,
+            final byte[] artifact) throws IOException {
+        try (OutputStream out = newOutputStream(artifactPath, storePath, testId, artifactType)) {
+            out.write(artifact);
+        }
+    }
+
+    /**
+     * Discard the artifact stored at the specified path.
+     *
+     * @param artifactPath path of the artifact file
+     * @param storePath path of the shared artifact store folder
+     * @throws IOException if an I/O error occurs
+     */
+    void discard(final Path artifactPath, final Path storePath) throws IOException {
+        Files.deleteIfExists(artifactPath);
+    }
+
+    /**
+     * Get the configured artifact storage strategy.
+     *
+     * @return {@link ArtifactStore} constant
+     */
+    static ArtifactStore getConfigured() {
+        String store = LifecycleHooks.getConfig().getString(JUnitSettings.ARTIFACT_STORE.key(), FILE.name());
+        try {
+            return valueOf(store.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return FILE;
+        }
+    }
+
+    /**
+     * Read the content of the artifact stored at the specified path. If the path specifies a reference file, the
+     * referenced blob is decompressed.
+     *
+     * @param artifactPath path of the artifact (or reference) file
+     * @return artifact content
+     * @throws IOException if an I/O error occurs
+     */
+    public static byte[] readArtifact(final Path artifactPath) throws IOException {
+        if (!artifactPath.getFileName().toString().endsWith(REF_SUFFIX)) {
+            return Files.readAllBytes(artifactPath);
+        }
+
+        Path blobPath = null;
+        List<String> lines = Files.readAllLines(artifactPath, StandardCharsets.UTF_8);
+        for (String line : lines) {
+            if (line.startsWith(BLOB_KEY)) {
+                blobPath = artifactPath.resolveSibling(line.substring(BLOB_KEY.length())).normalize();
+            }
+        }
+        if (blobPath == null) {
+            throw new IOException("Malformed artifact reference: " + artifactPath);
+        }
+
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(blobPath))) {
+            byte[] buffer = new byte[8192];
+            int count;
+            while ((count = in.read(buffer)) != -1) {
+                content.write(buffer, 0, count);
+            }
+        }
+        return content.toByteArray();
+    }
+
+    /**
+     * This output stream hashes and compresses artifact content into a temporary file. When closed, the temporary
+     * file is committed as a blob (unless an identical blob already exists) and a reference file is written.
+     * <p>
+     * <b>NOTE</b>: If no content was written, neither blob nor reference is stored.
+     */
+    private static class BlobOutputStream extends FilterOutputStream {
+        private final Path artifactPath;
+        private final Path storePath;
+        private final Path tempPath;
+        private final MessageDigest digest;
+        private long size;
+        private boolean closed;
+
+        BlobOutputStream(final Path artifactPath, final Path storePath) throws IOException {
+            super(null);
+            this.artifactPath = artifactPath;
+            this.storePath = storePath;
+            try {
+                digest = MessageDigest.getInstance(SHA_256);
+            } catch (NoSuchAlgorithmException e) {
+                throw UncheckedThrow.throwUnchecked(e);
+            }
+            Files.createDirectories(storePath);
+            tempPath = Files.createTempFile(storePath, "blob-", ".tmp");
+            out = new DigestOutputStream(new GZIPOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(tempPath))), digest);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            size++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            size += len;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) return;
+            closed = true;
+            try {
+                out.close();
+                if (size == 0) return;
+
+                String hash = toHex(digest.digest());
+                Path blobPath = storePath.resolve(hash + BLOB_EXTENSION);
+                // if blob not yet stored
+                if (!Files.exists(blobPath)) {
+                    try {
+                        Files.move(tempPath, blobPath, StandardCopyOption.ATOMIC_MOVE);
+                    } catch (FileAlreadyExistsException e) {
+                        // stored concurrently; nothing to do here
+                    }
+                }
+
+                String blobRef = artifactPath.toAbsolutePath().getParent()
+                        .relativize(blobPath.toAbsolutePath()).toString().replace('\\', '/');
+                String reference = SHA_KEY + hash + "\n" + SIZE_KEY + size + "\n" + BLOB_KEY + blobRef + "\n";
+                Files.write(artifactPath, reference.getBytes(StandardCharsets.UTF_8));
+            } finally {
+                Files.deleteIfExists(tempPath);
+            }
+        }
+
+        /**
+         * Convert the specified byte array to a hexadecimal string.
+         *
+         * @param bytes byte array
+         * @return hexadecimal string
+         */
+        private static String toHex(final byte[] bytes) {
+            StringBuilder builder = new StringBuilder(bytes.length * 2);
+            for (byte b : bytes) {
+                builder.append(String.format("%02x", b));
+            }
+            return builder.toString();
+        }
+    }
+}
@@ -101,6 +101,47 @@ public abstract class ArtifactType {
      */
     public abstract byte[] getArtifact(Object instance, Throwable reason);
     
+    /**
+     * Take a snapshot from which an artifact can be produced later. This is invoked on test failure if deferred
+     * capture is enabled (see {@link com.nordstrom.automation.junit.JUnitConfig.JUnitSettings#ARTIFACT_DEFERRED
+     * ARTIFACT_DEFERRED}). The snapshot is materialized via {@link #getArtifact(Object, Object, Throwable)} only if
+     * the test finally fails; otherwise, it's released via {@link #discardSnapshot(Object)}.
+     * <p>
+     * <b>NOTE</b>: Snapshots are resolved after the test has finished, so they must not depend on resources that are
+     * released by <b>{@code @After}</b> methods or rules. The default implementation captures the artifact itself.
+     * 
+     * @param instance JUnit test class instance
+     * @param reason impetus for capture request; may be 'null'
+     * @return artifact snapshot; {@code null} if no snapshot is available
+     */
+    public Object getSnapshot(Object instance, Throwable reason) {
+        return getArtifact(instance, reason);
+    }
+    
+    /**
+     * Produce an artifact from the specified snapshot.
+     * <p>
+     * <b>NOTE</b>: The default implementation returns snapshots captured by {@link #getSnapshot(Object, Throwable)}
+     * as-is. Types that override {@link #getSnapshot(Object, Throwable) getSnapshot} must also override this method.
+     * 
+     * @param instance JUnit test class instance
+     * @param snapshot snapshot returned by {@link #getSnapshot(Object, Throwable)}
+     * @param reason impetus for capture request; may be 'null'
+     * @return byte array containing the captured artifact; if capture fails, an empty array is returned
+     */
+    public byte[] getArtifact(Object instance, Object snapshot, Throwable reason) {
+        return (snapshot instanceof byte[]) ? (byte[]) snapshot : new byte[0];
+    }
+    
+    /**
+     * Release the specified snapshot, which won't be materialized.
+     * 
+     * @param snapshot snapshot returned by {@link #getSnapshot(Object, Throwable)}
+     */
+    public void discardSnapshot(Object snapshot) {
+        // nothing to do here
+    }
+    
     /**
      * Get the path at which to store artifacts.
      * <p>
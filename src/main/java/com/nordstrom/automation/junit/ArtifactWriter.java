@@ -0,0 +1,93 @@
+package com.nordstrom.automation.junit;
+
+import static com.nordstrom.automation.junit.LifecycleHooks.getConfig;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.nordstrom.automation.junit.JUnitConfig.JUnitSettings;
+
+/**
+ * This class implements the background writer for artifacts captured by {@link ArtifactCollector} when the
+ * {@link JUnitSettings#ARTIFACT_ASYNC ARTIFACT_ASYNC} setting is enabled. Write requests are queued for a single
+ * daemon thread. The queue is bounded by the {@link JUnitSettings#ARTIFACT_QUEUE_SIZE ARTIFACT_QUEUE_SIZE} setting;
+ * when it's full, the request is written in the calling thread, which throttles producers to the speed of the disk.
+ * <p>
+ * <b>NOTE</b>: Pending writes are flushed when the JVM shuts down (see {@link RunLifecycle}).
+ */
+class ArtifactWriter {
+
+    private static final long FLUSH_TIMEOUT = 30;
+    private static final Logger LOGGER = LoggerFactory.getLogger(ArtifactWriter.class);
+
+    private static volatile boolean active;
+
+    private ArtifactWriter() {
+        throw new AssertionError("ArtifactWriter is a static utility class that cannot be instantiated");
+    }
+
+    /**
+     * Determine if captured artifacts are written asynchronously.
+     *
+     * @return {@code true} if asynchronous writes are enabled; otherwise {@code false}
+     */
+    static boolean isEnabled() {
+        return getConfig().getBoolean(JUnitSettings.ARTIFACT_ASYNC.key(), false);
+    }
+
+    /**
+     * Submit the specified write request to the background writer.
+     *
+     * @param request artifact write request
+     * @return {@link Future} that completes when the request has been processed
+     */
+    static Future<?> submit(final Runnable request) {
+        active = true;
+        return WriterPool.EXECUTOR.submit(request);
+    }
+
+    /**
+     * Complete pending write requests and stop the background writer. This is invoked at shutdown.
+     */
+    static void flush() {
+        // if writer never started, done
+        if (!active) return;
+        ThreadPoolExecutor executor = WriterPool.EXECUTOR;
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(FLUSH_TIMEOUT, TimeUnit.SECONDS)) {
+                LOGGER.warn("Timed out flushing {} pending artifact writes", executor.getQueue().size());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Wait for the specified write request to complete.
+     *
+     * @param pending pending write request
+     */
+    static void await(final Future<?> pending) {
+        DaemonPool.await(pending, LOGGER, "Artifact write aborted unexpectedly");
+    }
+
+    /**
+     * This class provides lazy initialization of the artifact writer thread.
+     */
+    private static class WriterPool {
+        static final ThreadPoolExecutor EXECUTOR;
+
+        static {
+            int queueSize = Math.max(1, getConfig().getInt(JUnitSettings.ARTIFACT_QUEUE_SIZE.key(), 16));
+            EXECUTOR = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<Runnable>(queueSize), DaemonPool.newThreadFactory("artifact-writer"),
+                    new ThreadPoolExecutor.CallerRunsPolicy());
+        }
+    }
+}
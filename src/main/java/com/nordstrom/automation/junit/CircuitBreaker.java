@@ -0,0 +1,132 @@
+package com.nordstrom.automation.junit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.internal.AssumptionViolatedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.nordstrom.automation.junit.JUnitConfig.JUnitSettings;
+
+/**
+ * This class implements a fail-fast circuit breaker. Test outcomes are tallied across all threads, and once the
+ * number of failures reaches the configured {@link JUnitSettings#BREAKER_MAX_FAILURES maximum} or the failure ratio
+ * reaches the configured {@link JUnitSettings#BREAKER_THRESHOLD threshold}, the breaker trips. When the breaker has
+ * tripped, remaining children are reported as ignored instead of being run.
+ * <p>
+ * <b>NOTE</b>: The circuit breaker is reset when each test run starts (see {@link RunLifecycle}), so a breaker that
+ * trips in one test class skips the remaining classes of the run. Attempts that fail and are subsequently retried are
+ * not counted.
+ */
+public class CircuitBreaker implements RunWatcher {
+
+    private static final AtomicInteger FINISHED = new AtomicInteger();
+    private static final AtomicInteger FAILURES = new AtomicInteger();
+    private static volatile boolean tripped = false;
+    private static final Logger LOGGER = LoggerFactory.getLogger(CircuitBreaker.class);
+
+    /**
+     * Default constructor
+     */
+    public CircuitBreaker() { }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void testStarted(AtomicTest atomicTest) {
+        // nothing to do here
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void testFinished(AtomicTest atomicTest) {
+        // if this attempt is being retried, ignore it
+        if (RetriedTest.isRetriedTest(atomicTest.getDescription())) return;
+        evaluate(FINISHED.incrementAndGet(), FAILURES.get());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void testFailure(AtomicTest atomicTest, Throwable thrown) {
+        evaluate(FINISHED.get(), FAILURES.incrementAndGet());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void testAssumptionFailure(AtomicTest atomicTest, AssumptionViolatedException thrown) {
+        // nothing to do here
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void testIgnored(AtomicTest atomicTest) {
+        // nothing to do here
+    }
+
+    /**
+     * Determine if the circuit breaker has tripped.
+     *
+     * @return {@code true} if remaining tests should be skipped; otherwise {@code false}
+     */
+    public static boolean isTripped() {
+        return tripped;
+    }
+
+    /**
+     * Reset the circuit breaker, clearing accumulated test outcomes. This is invoked when each test run starts.
+     */
+    static void reset() {
+        FINISHED.set(0);
+        FAILURES.set(0);
+        tripped = false;
+    }
+
+    /**
+     * Evaluate accumulated test outcomes against configured limits, tripping the breaker if exceeded.
+     *
+     * @param finished count of finished tests
+     * @param failures count of failed tests
+     */
+    private static void evaluate(int finished, int failures) {
+        if (tripped || (failures == 0)) return;
+
+        JUnitConfig config = LifecycleHooks.getConfig();
+        String reason = null;
+
+        // if maximum failure count is specified
+        if (config.containsKey(JUnitSettings.BREAKER_MAX_FAILURES.key())) {
+            int maxFailures = config.getInt(JUnitSettings.BREAKER_MAX_FAILURES.key());
+            if ((maxFailures > 0) && (failures >= maxFailures)) {
+                reason = failures + " failures";
+            }
+        }
+
+        // if failure ratio threshold is specified
+        if ((reason == null) && config.containsKey(JUnitSettings.BREAKER_THRESHOLD.key())) {
+            double threshold = config.getDouble(JUnitSettings.BREAKER_THRESHOLD.key());
+            int minTests = config.getInt(JUnitSettings.BREAKER_MIN_TESTS.key(), 10);
+            if ((threshold > 0) && (finished >= minTests) && ((double) failures / finished >= threshold)) {
+                reason = failures + " of " + finished + " tests failed";
+            }
+        }
+
+        // if limit exceeded
+        if (reason != null) {
+            synchronized (CircuitBreaker.class) {
+                if (!tripped) {
+                    tripped = true;
+                    LOGGER.warn("### CIRCUIT BREAKER TRIPPED ### {}; remaining tests will be skipped", reason);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.nordstrom.automation.junit;
+
+import java.util.concurrent.Callable;
+
+import junitparams.internal.ParameterisedTestMethodRunner;
+import net.bytebuddy.implementation.bind.annotation.SuperCall;
+import net.bytebuddy.implementation.bind.annotation.This;
+
+/**
+ * This class declares the interceptor for the {@link junitparams.internal.ParameterisedTestMethodRunner#count count}
+ * method.
+ */
+public class Count {
+
+    /**
+     * Default constructor
+     */
+    public Count() { }
+    
+    /**
+     * Interceptor for the {@link junitparams.internal.ParameterisedTestMethodRunner#count count} method.
+     * <p>
+     * The JUnitParams implementation uses this count to identify the parameter set selected by the most recent
+     * invocation of {@code nextCount}. When parameter sets are run in parallel, the most recent invocation may have
+     * been made by another thread, so this interceptor returns the count that corresponds to the parameter set index
+     * allocated to the current thread (see {@link NextCount}).
+     * 
+     * @param runner current {@link junitparams.internal.ParameterisedTestMethodRunner ParameterisedTestMethodRunner}
+     * @param proxy callable proxy for the intercepted method
+     * @return count for the parameter set of the current thread; if none, the default count
+     * @throws Exception {@code anything} (exception thrown by the intercepted method)
+     */
+    public static int intercept(
+            @This final ParameterisedTestMethodRunner runner, @SuperCall final Callable<?> proxy) throws Exception {
+        
+        int index = NextCount.getParamSetIndex(runner);
+        // if index allocated to this thread, return corresponding count
+        if (index >= 0) return index + 1;
+        // otherwise, invoke default implementation
+        return LifecycleHooks.callProxy(proxy);
+    }
+}
@@ -66,13 +66,14 @@ public class CreateTest {
         
         Integer hashCode = Objects.hash(runner, method.toString());
         DepthGauge depthGauge = LifecycleHooks.computeIfAbsent(METHOD_DEPTH.get(), hashCode, NEW_INSTANCE);
-        depthGauge.increaseDepth();
+        long[] start = (0 == depthGauge.increaseDepth()) ? PhaseTimer.start() : null;
         
         Object target = LifecycleHooks.callProxy(proxy);
         
         if (0 == depthGauge.decreaseDepth()) {
-            METHOD_DEPTH.get().remove(hashCode);
+            DepthGauge.release(METHOD_DEPTH, hashCode);
             createMappingsFor(runner, method, target);
+            PhaseTimer.stopCreate(start, runner, method, target);
         }
         
         return target;
@@ -0,0 +1,46 @@
+package com.nordstrom.automation.junit;
+
+import java.util.concurrent.Callable;
+
+import org.junit.runner.Description;
+
+import junitparams.internal.ParameterisedTestMethodRunner;
+import net.bytebuddy.implementation.bind.annotation.SuperCall;
+import net.bytebuddy.implementation.bind.annotation.This;
+
+/**
+ * This class declares the interceptor for the
+ * {@link junitparams.internal.ParameterisedTestMethodRunner#currentTestDescription currentTestDescription} method.
+ */
+public class CurrentTestDescription {
+
+    /**
+     * Default constructor
+     */
+    public CurrentTestDescription() { }
+    
+    /**
+     * Interceptor for the {@link junitparams.internal.ParameterisedTestMethodRunner#currentTestDescription
+     * currentTestDescription} method.
+     * <p>
+     * When parameter sets are run in parallel, this interceptor returns the description of the parameter set
+     * allocated to the current thread (see {@link NextCount}), which provides a stable description for each set.
+     * 
+     * @param runner current {@link junitparams.internal.ParameterisedTestMethodRunner ParameterisedTestMethodRunner}
+     * @param proxy callable proxy for the intercepted method
+     * @return description for the parameter set of the current thread; if none, the default description
+     * @throws Exception {@code anything} (exception thrown by the intercepted method)
+     */
+    public static Description intercept(
+            @This final ParameterisedTestMethodRunner runner, @SuperCall final Callable<?> proxy) throws Exception {
+        
+        int index = NextCount.getParamSetIndex(runner);
+        // if index allocated to this thread, return corresponding description
+        if (index >= 0) {
+            Description description = LifecycleHooks.invoke(((MethodAccessor) runner).getMethod(), "description");
+            return description.getChildren().get(index);
+        }
+        // otherwise, invoke default implementation
+        return LifecycleHooks.callProxy(proxy);
+    }
+}
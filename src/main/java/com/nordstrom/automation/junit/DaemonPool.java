@@ -0,0 +1,89 @@
+package com.nordstrom.automation.junit;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+
+/**
+ * This class provides the common parts of the thread pools on which <b>JUnit Foundation</b> performs background work
+ * (e.g. - quarantined tests, timeout expiry, artifact capture and writes). Each pool is lazily initialized by the
+ * class that uses it, and runs its tasks on daemon threads so that pending work never prevents the JVM from exiting.
+ */
+class DaemonPool {
+
+    private DaemonPool() {
+        throw new AssertionError("DaemonPool is a static utility class that cannot be instantiated");
+    }
+
+    /**
+     * Create a factory for daemon threads with the specified name.
+     *
+     * @param name thread name
+     * @return daemon {@link ThreadFactory}
+     */
+    static ThreadFactory newThreadFactory(final String name) {
+        return new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, name);
+                thread.setDaemon(true);
+                return thread;
+            }
+        };
+    }
+
+    /**
+     * Create a factory for daemon threads with names composed of the specified prefix and a sequence number.
+     *
+     * @param prefix thread name prefix (e.g. - "quarantine-")
+     * @return daemon {@link ThreadFactory}
+     */
+    static ThreadFactory newNumberedThreadFactory(final String prefix) {
+        return new ThreadFactory() {
+            private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, prefix + threadNumber.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            }
+        };
+    }
+
+    /**
+     * Create a pool with the specified number of daemon threads, which queues tasks while all threads are busy.
+     *
+     * @param prefix thread name prefix (e.g. - "quarantine-")
+     * @param threads number of threads
+     * @return daemon thread pool
+     */
+    static ExecutorService newFixedPool(final String prefix, final int threads) {
+        return Executors.newFixedThreadPool(threads, newNumberedThreadFactory(prefix));
+    }
+
+    /**
+     * Wait for the specified task to complete. If the task failed, its failure is logged.
+     *
+     * @param pending pending task
+     * @param logger logger for task failures
+     * @param message message that describes task failures
+     * @return {@code false} if the current thread was interrupted; otherwise {@code true}
+     */
+    static boolean await(final Future<?> pending, final Logger logger, final String message) {
+        try {
+            pending.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            logger.warn(message, e.getCause());
+        }
+        return true;
+    }
+}
@@ -1,5 +1,7 @@
 package com.nordstrom.automation.junit;
 
+import java.util.Map;
+
 /**
  * This class provides a thread-safe depth counter for method interceptors.
  */
@@ -51,6 +53,22 @@ public class DepthGauge {
         throw new IllegalStateException("Unbalanced depth management; negative depth is prohibited");
     }
     
+    /**
+     * Release the depth gauge for the specified key from the indicated per-thread map. If this leaves the map empty,
+     * the map is removed from the current thread, so short-lived threads don't retain depth-tracking state.
+     * 
+     * @param <K> map key type
+     * @param gauges per-thread map of depth gauges
+     * @param key key of depth gauge to release
+     */
+    static <K> void release(final ThreadLocal<? extends Map<K, DepthGauge>> gauges, final K key) {
+        Map<K, DepthGauge> map = gauges.get();
+        map.remove(key);
+        if (map.isEmpty()) {
+            gauges.remove();
+        }
+    }
+    
     /**
      * Apply the specified delta to intercept depth counter
      * 
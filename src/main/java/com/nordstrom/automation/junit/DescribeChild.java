@@ -87,6 +87,17 @@ public class DescribeChild {
         return ((UniqueIdAccessor) description).getUniqueId().toString().startsWith(PERM_TAG);
     }
     
+    /**
+     * Get the permutation ID of the specified "theory" permutation.
+     * 
+     * @param description JUnit {@link Description} object
+     * @return theory method permutation ID; {@code null} if a permutation isn't described
+     */
+    static String getPermutationId(final Description description) {
+        String uniqueId = ((UniqueIdAccessor) description).getUniqueId().toString();
+        return uniqueId.startsWith(PERM_TAG) ? uniqueId.substring(PERM_TAG.length()) : null;
+    }
+    
     /**
      * Compute permutation ID for the specified description and assignments.
      * 
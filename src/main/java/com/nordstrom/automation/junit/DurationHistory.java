@@ -0,0 +1,349 @@
+package com.nordstrom.automation.junit;
+
+import static com.nordstrom.automation.junit.LifecycleHooks.toMapKey;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+import org.junit.internal.AssumptionViolatedException;
+import org.junit.runner.Description;
+import org.junit.runners.model.FrameworkMethod;
+import org.junit.runners.model.TestClass;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.nordstrom.automation.junit.JUnitConfig.JUnitSettings;
+
+/**
+ * This class records the durations of passing tests in the file specified by the
+ * {@link JUnitSettings#DURATION_HISTORY DURATION_HISTORY} setting. The most recent samples of each test are retained,
+ * keyed by a stable test identifier of the form <i>class-name</i>#<i>method-name</i>. The durations of test classes
+ * are also recorded, keyed by <i>class-name</i>. Each line of the history file holds the identifier of a test or
+ * class, a tab, and a comma-separated list of durations in milliseconds.
+ * <p>
+ * <b>NOTE</b>: The history file is resolved when each test run starts, loaded if it has changed, and saved when the
+ * JVM shuts down.
+ */
+public class DurationHistory implements RunnerWatcher, RunWatcher, ShutdownListener {
+
+    private static final int MAX_SAMPLES = 20;
+    private static final int MIN_SAMPLES = 3;
+    private static final Map<String, Long> START_TIMES = new ConcurrentHashMap<>();
+    private static final Map<String, Long> RUNNER_START_TIMES = new ConcurrentHashMap<>();
+    private static final Logger LOGGER = LoggerFactory.getLogger(DurationHistory.class);
+
+    private static Path historyPath;
+    private static volatile ConcurrentMap<String, long[]> history;
+    private static volatile Map<String, Long> loadedEstimates = Collections.emptyMap();
+    private static volatile boolean modified;
+
+    /**
+     * Default constructor
+     */
+    public DurationHistory() { }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void runStarted(Object runner) {
+        if ((getHistory() != null) && (getClassName(runner) != null)) {
+            RUNNER_START_TIMES.put(toMapKey(runner), System.nanoTime());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void runFinished(Object runner) {
+        Long startTime = RUNNER_START_TIMES.remove(toMapKey(runner));
+        // if start not recorded, nothing to do
+        if (startTime == null) return;
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        record(getClassName(runner), elapsed);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void testStarted(AtomicTest atomicTest) {
+        if (getHistory() != null) {
+            START_TIMES.put(toMapKey(atomicTest.getDescription()), System.nanoTime());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void testFinished(AtomicTest atomicTest) {
+        Description description = atomicTest.getDescription();
+        Long startTime = START_TIMES.remove(toMapKey(description));
+        // if start not recorded, nothing to do
+        if (startTime == null) return;
+        // if test didn't pass, don't record
+        if ((atomicTest.getThrowable() != null) || RetriedTest.isRetriedTest(description)) return;
+
+        FrameworkMethod identity = atomicTest.getIdentity();
+        if ((identity != null) && (description.getClassName() != null)) {
+            long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+            record(getTestId(description.getClassName(), identity.getName()), elapsed);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void testFailure(AtomicTest atomicTest, Throwable thrown) {
+        // nothing to do here
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void testAssumptionFailure(AtomicTest atomicTest, AssumptionViolatedException thrown) {
+        // nothing to do here
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void testIgnored(AtomicTest atomicTest) {
+        // nothing to do here
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onShutdown() {
+        save();
+    }
+
+    /**
+     * Get the stable identifier for the specified test.
+     *
+     * @param className name of the test class
+     * @param methodName name of the test method
+     * @return stable test identifier
+     */
+    static String getTestId(final String className, final String methodName) {
+        return className + "#" + methodName;
+    }
+
+    /**
+     * Get the name of the test class of the specified runner.
+     *
+     * @param runner JUnit test runner
+     * @return test class name; {@code null} if the runner has no test class
+     */
+    private static String getClassName(final Object runner) {
+        TestClass testClass = LifecycleHooks.getTestClassOf(runner);
+        if ((testClass == null) || (testClass.getJavaClass() == null)) return null;
+        return testClass.getName();
+    }
+
+    /**
+     * Get the recorded duration samples for the specified test.
+     *
+     * @param testId stable test identifier
+     * @return array of durations in milliseconds, oldest first; {@code null} if none recorded
+     */
+    static long[] getSamples(final String testId) {
+        Map<String, long[]> samples = getHistory();
+        return (samples != null) ? samples.get(testId) : null;
+    }
+
+    /**
+     * Get the specified percentile of the recorded durations of the specified test, using the nearest-rank method.
+     *
+     * @param testId stable test identifier
+     * @param percentile desired percentile (0 to 100)
+     * @return duration in milliseconds; -1 if insufficient samples have been recorded
+     */
+    static long getPercentile(final String testId, final double percentile) {
+        long[] samples = getSamples(testId);
+        if ((samples == null) || (samples.length < MIN_SAMPLES)) return -1;
+        long[] sorted = samples.clone();
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length, rank) - 1)];
+    }
+
+    /**
+     * Get the estimated duration of the specified test or class, which is the median of its recorded durations.
+     *
+     * @param testId stable test identifier or class name
+     * @return duration in milliseconds; -1 if no samples have been recorded
+     */
+    static long getEstimate(final String testId) {
+        return getMedian(getSamples(testId));
+    }
+
+    /**
+     * Get the estimated durations of all tests and classes, as loaded from the history file. Unlike
+     * {@link #getEstimate(String)}, these exclude durations recorded since the history file was loaded, so every run
+     * of a JVM sees the same estimates.
+     *
+     * @return map of test identifiers and class names to estimated durations in milliseconds; empty if duration
+     *         history is disabled
+     */
+    static Map<String, Long> getLoadedEstimates() {
+        return loadedEstimates;
+    }
+
+    /**
+     * Get the median of the specified duration samples.
+     *
+     * @param samples array of durations in milliseconds; may be {@code null}
+     * @return median duration in milliseconds; -1 if no samples are specified
+     */
+    private static long getMedian(final long[] samples) {
+        if ((samples == null) || (samples.length == 0)) return -1;
+        long[] sorted = samples.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    /**
+     * Record a duration sample for the specified test.
+     *
+     * @param testId stable test identifier
+     * @param millis duration in milliseconds
+     */
+    static void record(final String testId, final long millis) {
+        ConcurrentMap<String, long[]> samples = getHistory();
+        if (samples == null) return;
+        samples.compute(testId, new BiFunction<String, long[], long[]>() {
+            @Override
+            public long[] apply(String key, long[] current) {
+                if (current == null) return new long[] { millis };
+                int keep = Math.min(current.length, MAX_SAMPLES - 1);
+                long[] updated = Arrays.copyOfRange(current, current.length - keep, current.length + 1);
+                updated[keep] = millis;
+                return updated;
+            }
+        });
+        modified = true;
+    }
+
+    /**
+     * Get the duration history of the current run.
+     *
+     * @return map of duration samples; {@code null} if duration history is disabled
+     */
+    private static ConcurrentMap<String, long[]> getHistory() {
+        return history;
+    }
+
+    /**
+     * Resolve the duration history for the configured history file, loading it if the file has changed. This is
+     * invoked when each test run starts.
+     */
+    static synchronized void resolve() {
+        String pathStr = LifecycleHooks.getConfig().getString(JUnitSettings.DURATION_HISTORY.key());
+        Path path = (pathStr != null) ? Paths.get(pathStr).toAbsolutePath() : null;
+        // if history file is unchanged, done
+        if ((path != null) && path.equals(historyPath)) return;
+
+        // save current history
+        save();
+        historyPath = path;
+        history = (path != null) ? load(path) : null;
+
+        Map<String, Long> estimates = new HashMap<>();
+        if (history != null) {
+            for (Map.Entry<String, long[]> entry : history.entrySet()) {
+                long estimate = getMedian(entry.getValue());
+                if (estimate >= 0) {
+                    estimates.put(entry.getKey(), estimate);
+                }
+            }
+        }
+        loadedEstimates = Collections.unmodifiableMap(estimates);
+    }
+
+    /**
+     * Load duration history from the specified file.
+     *
+     * @param path path of history file
+     * @return map of duration samples
+     */
+    private static ConcurrentMap<String, long[]> load(final Path path) {
+        ConcurrentMap<String, long[]> samples = new ConcurrentHashMap<>();
+        if (Files.exists(path)) {
+            try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    int tab = line.indexOf('\t');
+                    if (tab < 1) continue;
+                    try {
+                        String[] values = line.substring(tab + 1).split(",");
+                        long[] durations = new long[values.length];
+                        for (int i = 0; i < values.length; i++) {
+                            durations[i] = Long.parseLong(values[i].trim());
+                        }
+                        samples.put(line.substring(0, tab), durations);
+                    } catch (NumberFormatException e) {
+                        LOGGER.debug("Skipping malformed duration history entry: {}", line);
+                    }
+                }
+            } catch (IOException e) {
+                LOGGER.warn("Unable to read duration history: {}", path, e);
+            }
+        }
+        modified = false;
+        return samples;
+    }
+
+    /**
+     * Save duration history to the current history file.
+     */
+    static synchronized void save() {
+        if ((historyPath == null) || (history == null) || !modified) return;
+
+        try {
+            Path parent = historyPath.getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Path tempPath = historyPath.resolveSibling(historyPath.getFileName() + ".tmp");
+            try (BufferedWriter writer = Files.newBufferedWriter(tempPath, StandardCharsets.UTF_8)) {
+                for (Map.Entry<String, long[]> entry : new TreeMap<>(history).entrySet()) {
+                    StringBuilder builder = new StringBuilder(entry.getKey()).append('\t');
+                    long[] durations = entry.getValue();
+                    for (int i = 0; i < durations.length; i++) {
+                        if (i > 0) builder.append(',');
+                        builder.append(durations[i]);
+                    }
+                    writer.write(builder.toString());
+                    writer.newLine();
+                }
+            }
+            Files.move(tempPath, historyPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            modified = false;
+        } catch (IOException e) {
+            LOGGER.warn("Unable to write duration history: {}", historyPath, e);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.nordstrom.automation.junit;
+
+import static com.nordstrom.automation.junit.LifecycleHooks.getConfig;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.runner.Description;
+import org.junit.runner.manipulation.Sorter;
+import org.junit.runners.ParentRunner;
+
+import com.nordstrom.automation.junit.JUnitConfig.JUnitSettings;
+
+/**
+ * This class implements the {@link Sorter} that orders the children of each runner longest-first, per the durations
+ * recorded by {@link DurationHistory}. Child runners are ordered by the durations of their test classes, and test
+ * methods are ordered by their own durations. Children with no recorded durations are run first, in their original
+ * order.
+ * <p>
+ * The sorter is applied automatically to each runner as it starts if the
+ * {@link JUnitSettings#DURATION_ORDER DURATION_ORDER} setting is enabled. Runners of classes marked with the
+ * {@link org.junit.FixMethodOrder FixMethodOrder} annotation are left unchanged.
+ */
+class DurationSorter extends Sorter {
+
+    private static final Pattern METHOD_NAME = Pattern.compile("^\\p{javaJavaIdentifierStart}\\p{javaJavaIdentifierPart}*");
+
+    /**
+     * Constructor: Create a new longest-first sorter.
+     */
+    private DurationSorter() {
+        super(new Comparator<Description>() {
+            private final Map<Description, Long> estimates = new HashMap<>();
+
+            @Override
+            public int compare(Description o1, Description o2) {
+                return Long.compare(getEstimate(o2), getEstimate(o1));
+            }
+
+            private long getEstimate(Description description) {
+                Long estimate = estimates.get(description);
+                if (estimate == null) {
+                    estimate = estimate(description);
+                    // if no durations recorded, run first
+                    if (estimate < 0) estimate = Long.MAX_VALUE;
+                    estimates.put(description, estimate);
+                }
+                return estimate;
+            }
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * <b>NOTE</b>: This sorter is applied to each runner as it starts, so it isn't applied to child runners here.
+     */
+    @Override
+    public void apply(Object object) {
+        // nothing to do here
+    }
+
+    /**
+     * Order the children of the specified runner longest-first, if indicated by the configuration.
+     *
+     * @param runner JUnit test runner
+     */
+    static void install(final Object runner) {
+        if (!(runner instanceof ParentRunner)) return;
+        if (!getConfig().getBoolean(JUnitSettings.DURATION_ORDER.key(), false)) return;
+        ((ParentRunner<?>) runner).sort(new DurationSorter());
+    }
+
+    /**
+     * Get the estimated duration of the specified child.
+     *
+     * @param description description of runner child
+     * @return duration in milliseconds; -1 if no durations have been recorded
+     */
+    static long estimate(final Description description) {
+        String historyId = getHistoryId(description);
+        return (historyId != null) ? DurationHistory.getEstimate(historyId) : -1;
+    }
+
+    /**
+     * Get the identifier under which the durations of the specified child are recorded.
+     *
+     * @param description description of runner child
+     * @return stable test identifier or class name; {@code null} if the child can't be identified
+     */
+    static String getHistoryId(final Description description) {
+        String className = description.getClassName();
+        if (className == null) return null;
+        String methodName = description.getMethodName();
+        // if child is a runner, use class name
+        if (methodName == null) return className;
+        // strip parameter decorations from method name
+        Matcher matcher = METHOD_NAME.matcher(methodName);
+        if (!matcher.find()) return null;
+        return DurationHistory.getTestId(className, matcher.group());
+    }
+}
@@ -29,6 +29,16 @@ public class FireTestFinished {
     public static void intercept(@This final EachTestNotifier notifier, @SuperCall final Callable<?> proxy)
             throws Exception {
         
+        AtomicTest atomicTest = EachTestNotifierInit.getAtomicTestOf(notifier);
+        // if atomic test exists
+        if (atomicTest != null) {
+            // complete pending artifact captures
+            ArtifactCollector.awaitCapturesOf(atomicTest.getDescription());
+            // resolve deferred artifact capture ('throwable' is only set if the test finally failed)
+            ArtifactCollector.resolveSnapshotsOf(atomicTest.getDescription(), atomicTest.getThrowable() != null);
+            // complete pending artifact writes
+            ArtifactCollector.awaitWritesOf(atomicTest.getDescription());
+        }
         LifecycleHooks.callProxy(proxy);
         EachTestNotifierInit.releaseMappingsFor(notifier);
     }
@@ -39,6 +39,8 @@ public class GetTestRules {
         FrameworkMethod method = CreateTest.getMethodFor(target);
         // apply rule-based global timeout
         TimeoutUtils.applyRuleTimeout(runner, method, testRules);
+        // attach thread dump collector
+        TimeoutUtils.applyThreadDumpCapture(target, testRules);
         // return test rules
         return testRules;
     }
@@ -115,10 +115,14 @@ public class JUnitAgent {
         final SignatureToken createTestToken = new SignatureToken("createTest", TypeDescription.ForLoadedType.of(Object.class), Arrays.asList(frameworkMethod));
         final TypeDescription createTest = TypePool.Default.ofSystemLoader().describe("com.nordstrom.automation.junit.CreateTest").resolve();
         final TypeDescription getTestRules = TypePool.Default.ofSystemLoader().describe("com.nordstrom.automation.junit.GetTestRules").resolve();
+        final TypeDescription withPotentialTimeout = TypePool.Default.ofSystemLoader().describe("com.nordstrom.automation.junit.WithPotentialTimeout").resolve();
         // org.junit.experimental.theories.Theories$TheoryAnchor
+        final TypeDescription runWithAssignment = TypePool.Default.ofSystemLoader().describe("com.nordstrom.automation.junit.RunWithAssignment").resolve();
         final TypeDescription runWithCompleteAssignment = TypePool.Default.ofSystemLoader().describe("com.nordstrom.automation.junit.RunWithCompleteAssignment").resolve();
         // junitparams.internal.ParameterisedTestMethodRunner
         final TypeDescription nextCount = TypePool.Default.ofSystemLoader().describe("com.nordstrom.automation.junit.NextCount").resolve();
+        final TypeDescription count = TypePool.Default.ofSystemLoader().describe("com.nordstrom.automation.junit.Count").resolve();
+        final TypeDescription currentTestDescription = TypePool.Default.ofSystemLoader().describe("com.nordstrom.automation.junit.CurrentTestDescription").resolve();
         // junitparams.internal.TestMethod
         final TypeDescription testMethodDescription = TypePool.Default.ofSystemLoader().describe("com.nordstrom.automation.junit.TestMethodDescription").resolve();
         
@@ -194,12 +198,13 @@ public class JUnitAgent {
                     return builder.method(named("runChild")).intercept(MethodDelegation.to(runChild))
                             .method(hasSignature(runToken)).intercept(MethodDelegation.to(run))
                             .method(named("describeChild")).intercept(MethodDelegation.to(describeChild))
-                            // NOTE: The 'methodBlock', 'createTest', and 'getTestRules' methods
+                            // NOTE: The 'methodBlock', 'createTest', 'getTestRules', and 'withPotentialTimeout' methods
                             //       are defined in BlockJUnit4ClassRunner, but I've been unable
                             //       to transform this ParentRunner subclass.
                             .method(named("methodBlock")).intercept(MethodDelegation.to(methodBlock))
                             .method(hasSignature(createTestToken)).intercept(MethodDelegation.to(createTest))
                             .method(named("getTestRules")).intercept(MethodDelegation.to(getTestRules))
+                            .method(named("withPotentialTimeout")).intercept(MethodDelegation.to(withPotentialTimeout))
                             .implement(Hooked.class);
                 }
             })
@@ -208,7 +213,8 @@ public class JUnitAgent {
                 @Override
                 public Builder<?> transform(Builder<?> builder, TypeDescription typeDescription,
                         ClassLoader classLoader, JavaModule module, ProtectionDomain protectionDomain) {
-                    return builder.method(named("runWithCompleteAssignment")).intercept(MethodDelegation.to(runWithCompleteAssignment))
+                    return builder.method(named("runWithAssignment")).intercept(MethodDelegation.to(runWithAssignment))
+                            .method(named("runWithCompleteAssignment")).intercept(MethodDelegation.to(runWithCompleteAssignment))
                             .implement(Hooked.class);
                 }
             })
@@ -218,6 +224,8 @@ public class JUnitAgent {
                 public Builder<?> transform(Builder<?> builder, TypeDescription typeDescription,
                         ClassLoader classLoader, JavaModule module, ProtectionDomain protectionDomain) {
                     return builder.method(named("nextCount")).intercept(MethodDelegation.to(nextCount))
+                            .method(named("count")).intercept(MethodDelegation.to(count))
+                            .method(named("currentTestDescription")).intercept(MethodDelegation.to(currentTestDescription))
                             .implement(MethodAccessor.class).intercept(FieldAccessor.ofField("method"))
                             .implement(Hooked.class);
                 }
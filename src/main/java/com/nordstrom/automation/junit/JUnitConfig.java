@@ -40,6 +40,94 @@ public class JUnitConfig extends SettingsCore<JUnitConfig.JUnitSettings> {
          */
         TIMEOUT_RULE("junit.timeout.rule", null),
         
+        /**
+         * This setting specifies whether test timeouts are enforced by a shared watchdog thread that interrupts the
+         * test in place, instead of running each test in a new thread.
+         * <p>
+         * name: <b>junit.timeout.watchdog</b><br>
+         * default: {@code false}
+         */
+        TIMEOUT_WATCHDOG("junit.timeout.watchdog", "false"),
+        
+        /**
+         * This setting specifies whether a thread dump is captured as a test artifact when a test is terminated by
+         * the shared timeout watchdog (see {@link #TIMEOUT_WATCHDOG}).
+         * <p>
+         * name: <b>junit.timeout.thread.dump</b><br>
+         * default: {@code false}
+         */
+        TIMEOUT_THREAD_DUMP("junit.timeout.thread.dump", "false"),
+        
+        /**
+         * This setting specifies the number of stack samples of the test thread to include in the thread dump,
+         * captured at regular intervals before timeout expiry (see {@link #TIMEOUT_SAMPLE_INTERVAL}).
+         * <p>
+         * name: <b>junit.timeout.stack.samples</b><br>
+         * default: <b>0</b>
+         */
+        TIMEOUT_STACK_SAMPLES("junit.timeout.stack.samples", "0"),
+        
+        /**
+         * This setting specifies the interval in milliseconds between stack samples of the test thread.
+         * <p>
+         * name: <b>junit.timeout.sample.interval</b><br>
+         * default: <b>100</b>
+         */
+        TIMEOUT_SAMPLE_INTERVAL("junit.timeout.sample.interval", "100"),
+        
+        /**
+         * This setting specifies whether per-test timeouts are derived from the recorded durations of each test
+         * (see {@link #DURATION_HISTORY}).
+         * <p>
+         * name: <b>junit.timeout.adaptive</b><br>
+         * default: {@code false}
+         */
+        TIMEOUT_ADAPTIVE("junit.timeout.adaptive", "false"),
+        
+        /**
+         * This setting specifies the factor applied to the 99th-percentile duration of a test to derive its adaptive
+         * timeout interval.
+         * <p>
+         * name: <b>junit.timeout.factor</b><br>
+         * default: <b>3</b>
+         */
+        TIMEOUT_FACTOR("junit.timeout.factor", "3"),
+        
+        /**
+         * This setting specifies the minimum adaptive timeout interval in milliseconds.
+         * <p>
+         * name: <b>junit.timeout.floor</b><br>
+         * default: <b>1000</b>
+         */
+        TIMEOUT_FLOOR("junit.timeout.floor", "1000"),
+        
+        /**
+         * This setting specifies the maximum adaptive timeout interval in milliseconds. If unspecified, the global
+         * per-test timeout interval ({@link #TEST_TIMEOUT}) is used as the ceiling.
+         * <p>
+         * name: <b>junit.timeout.ceiling</b><br>
+         * default: {@code null}
+         */
+        TIMEOUT_CEILING("junit.timeout.ceiling", null),
+        
+        /**
+         * This setting specifies the path of the file in which the durations of passing tests are recorded.
+         * <p>
+         * name: <b>junit.duration.history</b><br>
+         * default: {@code null}
+         */
+        DURATION_HISTORY("junit.duration.history", null),
+        
+        /**
+         * This setting specifies whether the children of each runner are run longest-first, ordered by their recorded
+         * durations (see {@link #DURATION_HISTORY}). Children with no recorded durations are run first, in their
+         * original order. This reduces the duration of parallel runs by starting slow classes and methods early.
+         * <p>
+         * name: <b>junit.duration.order</b><br>
+         * default: {@code false}
+         */
+        DURATION_ORDER("junit.duration.order", "false"),
+        
         /**
          * This setting specifies the maximum retry attempts for failed test methods.
          * <p>
@@ -55,7 +143,249 @@ public class JUnitConfig extends SettingsCore<JUnitConfig.JUnitSettings> {
          * name: <b>junit.retry.more.info</b><br>
          * default: {@code false}
          */
-        RETRY_MORE_INFO("junit.retry.more.info", "false");
+        RETRY_MORE_INFO("junit.retry.more.info", "false"),
+        
+        /**
+         * This setting specifies the failure ratio (0.0 to 1.0) at which the circuit breaker trips, causing remaining
+         * tests to be skipped.
+         * <p>
+         * name: <b>junit.breaker.threshold</b><br>
+         * default: {@code null}
+         */
+        BREAKER_THRESHOLD("junit.breaker.threshold", null),
+        
+        /**
+         * This setting specifies the number of test failures at which the circuit breaker trips, causing remaining
+         * tests to be skipped.
+         * <p>
+         * name: <b>junit.breaker.max.failures</b><br>
+         * default: {@code null}
+         */
+        BREAKER_MAX_FAILURES("junit.breaker.max.failures", null),
+        
+        /**
+         * This setting specifies the number of tests that must finish before the failure ratio is evaluated by the
+         * circuit breaker.
+         * <p>
+         * name: <b>junit.breaker.min.tests</b><br>
+         * default: <b>10</b>
+         */
+        BREAKER_MIN_TESTS("junit.breaker.min.tests", "10"),
+        
+        /**
+         * This setting specifies the path of a file that lists quarantined test classes and methods, one per line, in
+         * the form <i>class-name</i> or <i>class-name</i>#<i>method-name</i>.
+         * <p>
+         * name: <b>junit.quarantine.list</b><br>
+         * default: {@code null}
+         */
+        QUARANTINE_LIST("junit.quarantine.list", null),
+        
+        /**
+         * This setting specifies the number of threads in the pool that runs quarantined tests.
+         * <p>
+         * name: <b>junit.quarantine.threads</b><br>
+         * default: <b>2</b>
+         */
+        QUARANTINE_THREADS("junit.quarantine.threads", "2"),
+        
+        /**
+         * This setting specifies whether captured artifacts are written to disk by a background thread.
+         * <p>
+         * name: <b>junit.artifact.async</b><br>
+         * default: {@code false}
+         */
+        ARTIFACT_ASYNC("junit.artifact.async", "false"),
+        
+        /**
+         * This setting specifies the maximum number of pending asynchronous artifact writes. When this limit is reached,
+         * artifacts are written by the thread that captured them.
+         * <p>
+         * name: <b>junit.artifact.queue.size</b><br>
+         * default: <b>16</b>
+         */
+        ARTIFACT_QUEUE_SIZE("junit.artifact.queue.size", "16"),
+        
+        /**
+         * This setting specifies the storage strategy for captured artifacts (see {@link ArtifactStore}):
+         * <ul>
+         *     <li><b>FILE</b> stores each artifact in its own file.</li>
+         *     <li><b>CAS</b> stores each unique artifact once as a compressed blob, with per-test reference files.</li>
+         *     <li><b>PACK</b> appends the artifacts of each test run to a single pack file (<b>artifacts.pack</b>) in
+         *         the <b>artifact-store</b> folder of the reports directory. Each artifact is described by a line in
+         *         the accompanying index file (<b>artifacts.pack.idx</b>), which records its offset, length, test
+         *         identifier, artifact type, and name. Use {@link PackExtractor} to read or extract packed
+         *         artifacts.</li>
+         * </ul>
+         * name: <b>junit.artifact.store</b><br>
+         * default: <b>FILE</b>
+         */
+        ARTIFACT_STORE("junit.artifact.store", "FILE"),
+        
+        /**
+         * This setting specifies the maximum number of artifacts retained for each test.
+         * <p>
+         * name: <b>junit.artifact.max.per.test</b><br>
+         * default: {@code null}
+         */
+        ARTIFACT_MAX_PER_TEST("junit.artifact.max.per.test", null),
+        
+        /**
+         * This setting specifies the maximum number of artifacts retained for each test class.
+         * <p>
+         * name: <b>junit.artifact.max.per.class</b><br>
+         * default: {@code null}
+         */
+        ARTIFACT_MAX_PER_CLASS("junit.artifact.max.per.class", null),
+        
+        /**
+         * This setting specifies the maximum number of artifacts retained for each run.
+         * <p>
+         * name: <b>junit.artifact.max.per.run</b><br>
+         * default: {@code null}
+         */
+        ARTIFACT_MAX_PER_RUN("junit.artifact.max.per.run", null),
+        
+        /**
+         * This setting specifies the maximum total size in bytes of artifacts retained for each run.
+         * <p>
+         * name: <b>junit.artifact.max.bytes</b><br>
+         * default: {@code null}
+         */
+        ARTIFACT_MAX_BYTES("junit.artifact.max.bytes", null),
+        
+        /**
+         * This setting specifies which artifacts are retained when an artifact quota is exceeded: <b>KEEP_FIRST</b>
+         * skips further captures; <b>KEEP_LAST</b> deletes the oldest artifacts.
+         * <p>
+         * name: <b>junit.artifact.eviction</b><br>
+         * default: <b>KEEP_FIRST</b>
+         */
+        ARTIFACT_EVICTION("junit.artifact.eviction", "KEEP_FIRST"),
+        
+        /**
+         * This setting specifies whether artifacts captured by failed attempts of tests that eventually pass on retry
+         * are deleted.
+         * <p>
+         * name: <b>junit.artifact.drop.passed.retries</b><br>
+         * default: {@code false}
+         */
+        ARTIFACT_DROP_PASSED_RETRIES("junit.artifact.drop.passed.retries", "false"),
+        
+        /**
+         * This setting specifies whether artifact capture on failure is deferred until retries have resolved. If
+         * enabled, only a snapshot is taken when a test fails; the artifact is stored only if the test finally fails.
+         * <p>
+         * name: <b>junit.artifact.deferred</b><br>
+         * default: {@code false}
+         */
+        ARTIFACT_DEFERRED("junit.artifact.deferred", "false"),
+        
+        /**
+         * This setting specifies whether the artifact collectors attached to a failed test capture their artifacts
+         * concurrently on a shared capture pool.
+         * <p>
+         * name: <b>junit.artifact.parallel</b><br>
+         * default: {@code false}
+         */
+        ARTIFACT_PARALLEL("junit.artifact.parallel", "false"),
+        
+        /**
+         * This setting specifies the number of threads in the shared artifact capture pool.
+         * <p>
+         * name: <b>junit.artifact.capture.threads</b><br>
+         * default: <b>4</b>
+         */
+        ARTIFACT_CAPTURE_THREADS("junit.artifact.capture.threads", "4"),
+        
+        /**
+         * This setting specifies whether a JSON Lines manifest describing each saved artifact is written to the
+         * reports directory.
+         * <p>
+         * name: <b>junit.artifact.manifest</b><br>
+         * default: {@code false}
+         */
+        ARTIFACT_MANIFEST("junit.artifact.manifest", "false"),
+        
+        /**
+         * This setting specifies the number of artifact manifest lines that are buffered before being flushed.
+         * <p>
+         * name: <b>junit.artifact.manifest.batch</b><br>
+         * default: <b>32</b>
+         */
+        ARTIFACT_MANIFEST_BATCH("junit.artifact.manifest.batch", "32"),
+        
+        /**
+         * This setting specifies whether the permutations of each theory are run in parallel on the shared
+         * work-stealing pool (see {@link ParallelScheduler}).
+         * <p>
+         * name: <b>junit.theories.parallel</b><br>
+         * default: {@code false}
+         */
+        THEORIES_PARALLEL("junit.theories.parallel", "false"),
+        
+        /**
+         * This setting specifies the index (0-based) of the shard of the suite to run in this JVM (see
+         * {@link ShardFilter}).
+         * <p>
+         * name: <b>junit.shard.index</b><br>
+         * default: {@code null}
+         */
+        SHARD_INDEX("junit.shard.index", null),
+        
+        /**
+         * This setting specifies the number of shards across which the suite is split. If less than 2, the entire
+         * suite is run.
+         * <p>
+         * name: <b>junit.shard.count</b><br>
+         * default: {@code null}
+         */
+        SHARD_COUNT("junit.shard.count", null),
+        
+        /**
+         * This setting specifies the unit of assignment to shards: <b>CLASSES</b> or <b>METHODS</b>.
+         * <p>
+         * name: <b>junit.shard.unit</b><br>
+         * default: <b>CLASSES</b>
+         */
+        SHARD_UNIT("junit.shard.unit", "CLASSES"),
+        
+        /**
+         * This setting specifies which children of test runners are run in parallel on the shared work-stealing
+         * pool: <b>NONE</b>, <b>CLASSES</b>, <b>METHODS</b>, or <b>ALL</b> (see {@link ParallelScheduler}).
+         * <p>
+         * name: <b>junit.parallel.mode</b><br>
+         * default: <b>NONE</b>
+         */
+        PARALLEL_MODE("junit.parallel.mode", "NONE"),
+        
+        /**
+         * This setting specifies the parallelism of the shared work-stealing pool. If unspecified, the number of
+         * available processors is used.
+         * <p>
+         * name: <b>junit.parallel.threads</b><br>
+         * default: {@code null}
+         */
+        PARALLEL_THREADS("junit.parallel.threads", null),
+        
+        /**
+         * This setting specifies whether children run in parallel (see {@link #PARALLEL_MODE}) are each run on a new
+         * virtual thread instead of the shared pool. This requires a Java runtime that supports virtual threads; on
+         * earlier runtimes, the shared pool is used.
+         * <p>
+         * name: <b>junit.parallel.virtual</b><br>
+         * default: {@code false}
+         */
+        PARALLEL_VIRTUAL("junit.parallel.virtual", "false"),
+        
+        /**
+         * This setting specifies the path of the file to which per-phase timings are written at the end of each run
+         * (see {@link PhaseTimer}). If unspecified, phase timings aren't collected.
+         * <p>
+         * name: <b>junit.phase.timing</b><br>
+         * default: {@code null}
+         */
+        PHASE_TIMING("junit.phase.timing", null);
         
         private final String propertyName;
         private final String defaultValue;
@@ -0,0 +1,43 @@
+package com.nordstrom.automation.junit;
+
+/**
+ * This interface defines the recorder of the custom Java Flight Recorder events emitted by {@link LifecycleEvents}.
+ * Because <b>JUnit Foundation</b> is built for Java 8, the implementation that records these events is compiled
+ * separately for Java 11 and packaged as a versioned class of the multi-release JAR; on earlier runtimes, no
+ * implementation is available and no events are recorded.
+ */
+interface LifecycleEventSink {
+
+    /**
+     * This enumeration defines the kinds of lifecycle events.
+     */
+    enum Kind {
+        /** Execution of a test runner. */
+        RUN,
+        /** Execution of an atomic test. */
+        TEST,
+        /** Invocation of a configuration or test method. */
+        INVOCATION,
+        /** Creation of a test class instance. */
+        CREATE
+    }
+
+    /**
+     * Begin an event of the specified kind.
+     *
+     * @param kind event {@link Kind}
+     * @return event object; {@code null} if events of this kind aren't being recorded
+     */
+    Object begin(Kind kind);
+
+    /**
+     * Populate and commit the specified event.
+     *
+     * @param event event object from {@link #begin(Kind)}
+     * @param className name of the test class; may be {@code null}
+     * @param methodName name of the test or configuration method; may be {@code null}
+     * @param theoryId permutation ID of "theory" method; may be {@code null}
+     * @param detail event-specific detail (test outcome or invocation phase); may be {@code null}
+     */
+    void commit(Object event, String className, String methodName, String theoryId, String detail);
+}
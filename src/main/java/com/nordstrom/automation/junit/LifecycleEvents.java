@@ -0,0 +1,259 @@
+package com.nordstrom.automation.junit;
+
+import static com.nordstrom.automation.junit.LifecycleHooks.toMapKey;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.internal.AssumptionViolatedException;
+import org.junit.internal.runners.model.ReflectiveCallable;
+import org.junit.runner.Description;
+import org.junit.runners.model.FrameworkMethod;
+import org.junit.runners.model.TestClass;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.nordstrom.automation.junit.LifecycleEventSink.Kind;
+
+/**
+ * This class emits custom <a href="https://docs.oracle.com/en/java/javase/11/docs/api/jdk.jfr/jdk/jfr/package-summary.html">
+ * Java Flight Recorder</a> events for the test lifecycle, so that GC pauses, lock contention, and allocation profiles
+ * can be correlated with specific tests using standard JFR tooling. All events belong to the <b>JUnit Foundation</b>
+ * category and carry the test class, method, and "theory" permutation ID; JFR records the thread of each event:
+ * <ul>
+ *     <li><b>com.nordstrom.automation.junit.Run</b>: execution of a test runner, from start to finish</li>
+ *     <li><b>com.nordstrom.automation.junit.Test</b>: execution of an atomic test, with its outcome (<b>passed</b>,
+ *         <b>failed</b>, <b>skipped</b>, <b>retried</b>, or <b>ignored</b>)</li>
+ *     <li><b>com.nordstrom.automation.junit.Invocation</b>: invocation of a configuration or test method, with its
+ *         phase (e.g. - <b>BEFORE</b>, <b>TEST</b>, <b>AFTER</b>)</li>
+ *     <li><b>com.nordstrom.automation.junit.Create</b>: creation of a test class instance</li>
+ * </ul>
+ * <b>NOTE</b>: Events are recorded on Java 11 and later runtimes when loaded from the multi-release <b>JUnit
+ * Foundation</b> JAR. Each event is only allocated and tracked while a recording that enables its event type is
+ * active; otherwise, each lifecycle notification costs a check of the enabled state of the event type.
+ */
+public class LifecycleEvents implements RunnerWatcher, RunWatcher, MethodWatcher<FrameworkMethod>, TestObjectWatcher {
+
+    private static final String SINK_CLASS = "com.nordstrom.automation.junit.JfrEventSink";
+    private static final LifecycleEventSink SINK;
+    private static final Map<String, Object> EVENTS = new ConcurrentHashMap<>();
+    private static final Logger LOGGER = LoggerFactory.getLogger(LifecycleEvents.class);
+
+    static {
+        LifecycleEventSink sink = null;
+        try {
+            sink = (LifecycleEventSink) Class.forName(SINK_CLASS).getDeclaredConstructor().newInstance();
+        } catch (ClassNotFoundException e) {
+            LOGGER.debug("Flight Recorder events are not supported by this Java runtime");
+        } catch (ReflectiveOperationException | LinkageError e) {
+            LOGGER.debug("Flight Recorder events are not available", e);
+        }
+        SINK = sink;
+    }
+
+    /**
+     * Default constructor
+     */
+    public LifecycleEvents() { }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void runStarted(Object runner) {
+        begin(Kind.RUN, runner);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void runFinished(Object runner) {
+        Object event = end(Kind.RUN, runner);
+        if (event != null) {
+            SINK.commit(event, getClassName(runner), null, null, null);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void testStarted(AtomicTest atomicTest) {
+        begin(Kind.TEST, atomicTest.getDescription());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void testFinished(AtomicTest atomicTest) {
+        Object event = end(Kind.TEST, atomicTest.getDescription());
+        if (event != null) {
+            commitTest(event, atomicTest, getOutcome(atomicTest));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void testFailure(AtomicTest atomicTest, Throwable thrown) {
+        // outcome is recorded when test finishes
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void testAssumptionFailure(AtomicTest atomicTest, AssumptionViolatedException thrown) {
+        // outcome is recorded when test finishes
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void testIgnored(AtomicTest atomicTest) {
+        Object event = (SINK != null) ? SINK.begin(Kind.TEST) : null;
+        if (event != null) {
+            commitTest(event, atomicTest, "ignored");
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void beforeInvocation(Object runner, FrameworkMethod child, ReflectiveCallable callable) {
+        begin(Kind.INVOCATION, callable);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void afterInvocation(Object runner, FrameworkMethod child, ReflectiveCallable callable, Throwable thrown) {
+        Object event = end(Kind.INVOCATION, callable);
+        if (event != null) {
+            Object target = null;
+            try {
+                // get test class instance
+                target = LifecycleHooks.getFieldValue(callable, "val$target");
+            } catch (IllegalAccessException | NoSuchFieldException | SecurityException | IllegalArgumentException e) {
+                // nothing to do here
+            }
+            Description description = LifecycleHooks.describeChild(runner, child);
+            String theoryId = (description != null) ? DescribeChild.getPermutationId(description) : null;
+            SINK.commit(event, getClassName(runner), child.getName(), theoryId,
+                    PhaseTimer.getPhase(child, target).name());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Class<FrameworkMethod> supportedType() {
+        return FrameworkMethod.class;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void testObjectCreated(Object runner, FrameworkMethod method, Object testObj) {
+        Object event = (SINK != null) ? SINK.begin(Kind.CREATE) : null;
+        if (event != null) {
+            SINK.commit(event, testObj.getClass().getName(), method.getName(), null, null);
+        }
+    }
+
+    /**
+     * Determine if Flight Recorder events are supported by the current Java runtime.
+     *
+     * @return {@code true} if lifecycle events can be recorded; otherwise {@code false}
+     */
+    static boolean isSupported() {
+        return SINK != null;
+    }
+
+    /**
+     * Begin an event of the specified kind, if it's being recorded.
+     *
+     * @param kind event {@link Kind}
+     * @param subject subject of the event
+     */
+    private static void begin(final Kind kind, final Object subject) {
+        if (SINK == null) return;
+        Object event = SINK.begin(kind);
+        if (event != null) {
+            EVENTS.put(getEventKey(kind, subject), event);
+        }
+    }
+
+    /**
+     * Remove the event of the specified kind for the specified subject.
+     *
+     * @param kind event {@link Kind}
+     * @param subject subject of the event
+     * @return event object; {@code null} if no event was begun
+     */
+    private static Object end(final Kind kind, final Object subject) {
+        // if no events are pending, skip key lookup
+        if (EVENTS.isEmpty()) return null;
+        return EVENTS.remove(getEventKey(kind, subject));
+    }
+
+    /**
+     * Get the key of the event of the specified kind for the specified subject.
+     *
+     * @param kind event {@link Kind}
+     * @param subject subject of the event
+     * @return event key
+     */
+    private static String getEventKey(final Kind kind, final Object subject) {
+        return kind.name() + ":" + toMapKey(subject);
+    }
+
+    /**
+     * Populate and commit the specified test event.
+     *
+     * @param event event object
+     * @param atomicTest atomic test
+     * @param outcome test outcome
+     */
+    private static void commitTest(final Object event, final AtomicTest atomicTest, final String outcome) {
+        Description description = atomicTest.getDescription();
+        FrameworkMethod identity = atomicTest.getIdentity();
+        String methodName = (identity != null) ? identity.getName() : description.getMethodName();
+        SINK.commit(event, description.getClassName(), methodName, DescribeChild.getPermutationId(description),
+                outcome);
+    }
+
+    /**
+     * Get the outcome of the specified finished test.
+     *
+     * @param atomicTest atomic test
+     * @return test outcome
+     */
+    private static String getOutcome(final AtomicTest atomicTest) {
+        if (RetriedTest.isRetriedTest(atomicTest.getDescription())) return "retried";
+        Throwable thrown = atomicTest.getThrowable();
+        if (thrown == null) return "passed";
+        if (thrown instanceof AssumptionViolatedException) return "skipped";
+        return "failed";
+    }
+
+    /**
+     * Get the name of the test class of the specified runner.
+     *
+     * @param runner JUnit test runner
+     * @return test class name; {@code null} if the runner has no test class
+     */
+    private static String getClassName(final Object runner) {
+        TestClass testClass = LifecycleHooks.getTestClassOf(runner);
+        if ((testClass == null) || (testClass.getJavaClass() == null)) return null;
+        return testClass.getName();
+    }
+}
@@ -65,11 +65,22 @@ public class MethodBlock {
         DepthGauge depthGauge = LifecycleHooks.computeIfAbsent(METHOD_DEPTH.get(), toMapKey(runner), NEW_INSTANCE);
         depthGauge.increaseDepth();
         
-        Statement statement = LifecycleHooks.callProxy(proxy);
+        Object target = null;
+        Statement statement;
+        try {
+            statement = LifecycleHooks.callProxy(proxy);
+        } finally {
+            // if at ground level, claim instance created for phase timing
+            if (1 == depthGauge.currentDepth()) {
+                target = PhaseTimer.takeCreatedTarget();
+            }
+        }
         
         // if at ground level
         if (0 == depthGauge.decreaseDepth()) {
-            METHOD_DEPTH.get().remove(toMapKey(runner));
+            DepthGauge.release(METHOD_DEPTH, toMapKey(runner));
+            // measure time spent in rules
+            statement = PhaseTimer.wrapStatement(runner, method, target, statement);
             try {
                 // get parent of test runner
                 Object parent = LifecycleHooks.getFieldValue(runner, "this$0");
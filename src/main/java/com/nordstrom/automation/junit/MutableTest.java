@@ -3,7 +3,6 @@ package com.nordstrom.automation.junit;
 import org.junit.Ignore;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
-import org.junit.runners.model.FrameworkMethod;
 import org.junit.runners.model.TestTimedOutException;
 
 import net.bytebuddy.implementation.bind.annotation.Argument;
@@ -21,8 +20,8 @@ import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * This class is a mutable implementation of the {@link Test &#64;Test} annotation interface. It includes a static
- * {@link #proxyFor(FrameworkMethod, long)} method that replaces the immutable annotation attached to a JUnit test
- * method with an instance of this class to apply the global test timeout.
+ * {@link #proxyFor(Test, long)} method that creates an instance of this class with an altered timeout interval,
+ * which replaces the immutable annotation attached to a JUnit test method to apply the global test timeout.
  */
 @Ignore
 @SuppressWarnings("all")
@@ -103,17 +102,13 @@ public class MutableTest implements Test {
     }
     
     /**
-     * Create a {@link Test &#64;Test} annotation proxy for the specified test method.
+     * Create a {@link Test &#64;Test} annotation proxy with the specified timeout interval.
      * 
-     * @param method test method to which {@code @Test} annotation proxy will be attached
+     * @param declared declared {@link Test &#64;Test} annotation
      * @param timeout timeout interval in milliseconds
+     * @return {@link MutableTest} proxy annotation
      */
-    static void proxyFor(final FrameworkMethod method, final long timeout) {
-        Test declared = method.getAnnotation(Test.class);
-        if (declared != null) {
-            GetAnnotation.injectProxy(method, new MutableTest(declared, timeout));
-            return;
-        }
-        throw new IllegalArgumentException("Specified method is not a JUnit @Test: " + method);
+    static MutableTest proxyFor(final Test declared, final long timeout) {
+        return new MutableTest(declared, timeout);
     }
 }
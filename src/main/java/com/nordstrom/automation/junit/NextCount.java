@@ -1,5 +1,9 @@
 package com.nordstrom.automation.junit;
 
+import static com.nordstrom.automation.junit.LifecycleHooks.toMapKey;
+
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.Callable;
 
 import junitparams.internal.ParameterisedTestMethodRunner;
@@ -13,6 +17,8 @@ import net.bytebuddy.implementation.bind.annotation.This;
  */
 public class NextCount {
 
+    private static final ThreadLocal<Map<String, Integer>> PARAM_SET_INDEX = new ThreadLocal<>();
+    
     /**
      * Default constructor
      */
@@ -27,6 +33,10 @@ public class NextCount {
      * index each time it's invoked, which always selects the next set of parameters (or exceeds the bounds of
      * the array). The handling provided by this interceptor returns the prior index if the target test method
      * if being retried so that the correct set of parameters is selected.
+     * <p>
+     * To enable the parameter sets of a method to run in parallel, indexes are allocated under the lock of the method
+     * runner, and the index allocated by each thread is retained. The {@link Count} and {@link CurrentTestDescription}
+     * interceptors use the index of the current thread, and the index of the current thread is reused for retries.
      * 
      * @param runner current {@link junitparams.internal.ParameterisedTestMethodRunner ParameterisedTestMethodRunner}
      * @param proxy callable proxy for the intercepted method
@@ -38,16 +48,47 @@ public class NextCount {
         
         // get reference to JUnitParams target test method
         TestMethod method = ((MethodAccessor) runner).getMethod();
-        // if this method is being retried
-        if (RetryHandler.doRetryFor(method.frameworkMethod())) {
-            // get current parameter set index
-            int nextCount = LifecycleHooks.invoke(runner, "count");
-            // return prior index
-            return nextCount - 1;
-        // otherwise
-        } else {
-            // invoke default implementation
-            return LifecycleHooks.callProxy(proxy);
+        synchronized (runner) {
+            int index;
+            // if this method is being retried
+            if (RetryHandler.doRetryFor(method.frameworkMethod())) {
+                // get current parameter set index
+                int nextCount = LifecycleHooks.invoke(runner, "count");
+                // return prior index
+                index = nextCount - 1;
+            // otherwise
+            } else {
+                // invoke default implementation
+                index = LifecycleHooks.callProxy(proxy);
+            }
+            Map<String, Integer> indexes = PARAM_SET_INDEX.get();
+            if (indexes == null) {
+                indexes = new HashMap<>();
+                PARAM_SET_INDEX.set(indexes);
+            }
+            indexes.put(toMapKey(runner), index);
+            return index;
         }
     }
+    
+    /**
+     * Get the parameter set index allocated to the current thread by the specified method runner.
+     * 
+     * @param runner {@link junitparams.internal.ParameterisedTestMethodRunner ParameterisedTestMethodRunner} object
+     * @return parameter set index; -1 if none allocated
+     */
+    static int getParamSetIndex(final Object runner) {
+        Map<String, Integer> indexes = PARAM_SET_INDEX.get();
+        // if no indexes allocated to this thread
+        if (indexes == null) return -1;
+        Integer index = indexes.get(toMapKey(runner));
+        return (index != null) ? index : -1;
+    }
+    
+    /**
+     * Release the parameter set indexes allocated to the current thread.
+     */
+    static void releaseParamSetIndexes() {
+        PARAM_SET_INDEX.remove();
+    }
 }
@@ -0,0 +1,191 @@
+package com.nordstrom.automation.junit;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class provides access to the artifacts stored in artifact packs by the {@link ArtifactStore#PACK PACK} storage
+ * strategy. Packed artifacts are read through memory-mapped views of the pack file. This class can also be run from
+ * the command line to extract all of the artifacts of a pack:
+ * <blockquote>
+ * {@code java -cp <classpath> com.nordstrom.automation.junit.PackExtractor <pack-file> [<output-dir>]}
+ * </blockquote>
+ * If no output directory is specified, artifacts are extracted to the reports directory that contains the pack (i.e.
+ * - the paths at which they would have been stored by the {@link ArtifactStore#FILE FILE} strategy).
+ */
+public class PackExtractor {
+
+    private PackExtractor() {
+        throw new AssertionError("PackExtractor is a static utility class that cannot be instantiated");
+    }
+
+    /**
+     * Extract all artifacts from the specified pack.
+     *
+     * @param args pack file path and (optional) output directory path
+     * @throws IOException if an I/O error occurs
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("usage: PackExtractor <pack-file> [<output-dir>]");
+            System.exit(1);
+        }
+        Path packPath = Paths.get(args[0]);
+        Path outputPath = (args.length > 1) ? Paths.get(args[1]) : null;
+        int count = extract(packPath, outputPath);
+        System.out.println("Extracted " + count + " artifacts from " + packPath);
+    }
+
+    /**
+     * Read the index of the specified pack.
+     * <p>
+     * <b>NOTE</b>: Discarded artifacts are omitted from the returned list.
+     *
+     * @param packPath path of pack file
+     * @return list of {@link Entry} objects, in pack order
+     * @throws IOException if an I/O error occurs
+     */
+    public static List<Entry> readIndex(final Path packPath) throws IOException {
+        Map<String, Entry> entries = new LinkedHashMap<>();
+        Path indexPath = packPath.resolveSibling(packPath.getFileName() + ArtifactPack.INDEX_SUFFIX);
+        for (String line : Files.readAllLines(indexPath, StandardCharsets.UTF_8)) {
+            String[] fields = line.split("\t", 5);
+            if (fields.length < 5) continue;
+            long length = Long.parseLong(fields[1]);
+            if (length < 0) {
+                entries.remove(fields[4]);
+            } else {
+                entries.put(fields[4], new Entry(Long.parseLong(fields[0]), length, fields[2], fields[3], fields[4]));
+            }
+        }
+        return new ArrayList<>(entries.values());
+    }
+
+    /**
+     * Read the content of the specified artifact from the indicated pack.
+     *
+     * @param packPath path of pack file
+     * @param entry index entry of target artifact
+     * @return artifact content
+     * @throws IOException if an I/O error occurs
+     */
+    public static byte[] read(final Path packPath, final Entry entry) throws IOException {
+        try (FileChannel channel = FileChannel.open(packPath, StandardOpenOption.READ)) {
+            return read(channel, entry);
+        }
+    }
+
+    /**
+     * Extract all artifacts from the specified pack.
+     *
+     * @param packPath path of pack file
+     * @param outputPath path of output directory; if {@code null}, the reports directory that contains the pack
+     * @return number of extracted artifacts
+     * @throws IOException if an I/O error occurs
+     */
+    public static int extract(final Path packPath, final Path outputPath) throws IOException {
+        Path targetPath = (outputPath != null) ? outputPath : packPath.toAbsolutePath().getParent().getParent();
+        List<Entry> entries = readIndex(packPath);
+        try (FileChannel channel = FileChannel.open(packPath, StandardOpenOption.READ)) {
+            for (Entry entry : entries) {
+                Path artifactPath = targetPath.resolve(entry.getName());
+                Path parentPath = artifactPath.getParent();
+                if (parentPath != null) {
+                    Files.createDirectories(parentPath);
+                }
+                Files.write(artifactPath, read(channel, entry));
+            }
+        }
+        return entries.size();
+    }
+
+    /**
+     * Read the content of the specified artifact from the indicated pack channel.
+     *
+     * @param channel pack file channel
+     * @param entry index entry of target artifact
+     * @return artifact content
+     * @throws IOException if an I/O error occurs
+     */
+    private static byte[] read(final FileChannel channel, final Entry entry) throws IOException {
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, entry.getOffset(), entry.getLength());
+        byte[] content = new byte[(int) entry.getLength()];
+        buffer.get(content);
+        return content;
+    }
+
+    /**
+     * This class represents an entry in the index of an artifact pack.
+     */
+    public static class Entry {
+        private final long offset;
+        private final long length;
+        private final String testId;
+        private final String artifactType;
+        private final String name;
+
+        Entry(final long offset, final long length, final String testId, final String artifactType,
+                final String name) {
+            this.offset = offset;
+            this.length = length;
+            this.testId = testId;
+            this.artifactType = artifactType;
+            this.name = name;
+        }
+
+        /**
+         * Get the offset of this artifact in the pack.
+         *
+         * @return artifact offset
+         */
+        public long getOffset() {
+            return offset;
+        }
+
+        /**
+         * Get the length of this artifact.
+         *
+         * @return artifact length in bytes
+         */
+        public long getLength() {
+            return length;
+        }
+
+        /**
+         * Get the identifier of the test that captured this artifact.
+         *
+         * @return test identifier (<i>class-name</i>#<i>method-name</i>)
+         */
+        public String getTestId() {
+            return testId;
+        }
+
+        /**
+         * Get the name of the type of this artifact.
+         *
+         * @return artifact type name
+         */
+        public String getArtifactType() {
+            return artifactType;
+        }
+
+        /**
+         * Get the name of this artifact, which is its path relative to the reports directory.
+         *
+         * @return artifact name
+         */
+        public String getName() {
+            return name;
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.nordstrom.automation.junit;
+
+import static com.nordstrom.automation.junit.LifecycleHooks.getConfig;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.runner.Runner;
+import org.junit.runners.ParentRunner;
+import org.junit.runners.model.RunnerScheduler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.nordstrom.automation.junit.JUnitConfig.JUnitSettings;
+
+/**
+ * This class implements a {@link RunnerScheduler} that runs the children of a {@link ParentRunner} on a shared
+ * work-stealing {@link ForkJoinPool}. Because all runners share one pool, idle threads take work from runners that
+ * still have children to run, whether those children are test classes or test methods. A runner waiting for its
+ * children to finish helps to run queued children instead of blocking a thread.
+ * <p>
+ * The scheduler is installed automatically on each runner as it starts, per the
+ * {@link JUnitSettings#PARALLEL_MODE PARALLEL_MODE} setting:
+ * <ul>
+ *     <li><b>NONE</b>: Children are run sequentially (the default).</li>
+ *     <li><b>CLASSES</b>: The child runners of suites are run in parallel.</li>
+ *     <li><b>METHODS</b>: The test methods of each class are run in parallel.</li>
+ *     <li><b>ALL</b>: Both child runners and test methods are run in parallel.</li>
+ * </ul>
+ * The parallelism of the shared pool is specified by the {@link JUnitSettings#PARALLEL_THREADS PARALLEL_THREADS}
+ * setting, which defaults to the number of available processors. Each child is run with its runner pushed onto the
+ * runner stack of the pool thread, so {@link LifecycleHooks#getThreadRunner()}, atomic test tracking, and
+ * {@link RunnerWatcher} notifications work as they do for sequential execution.
+ * <p>
+ * <b>NOTE</b>: Runners with a custom scheduler are left unchanged. Once the circuit breaker has tripped, remaining
+ * children are reported as ignored instead of being run.
+ */
+public class ParallelScheduler implements RunnerScheduler {
+
+    private final Object runner;
+    private final Queue<ForkJoinTask<?>> tasks = new ConcurrentLinkedQueue<>();
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ParallelScheduler.class);
+
+    /**
+     * This enumeration defines the parallel execution modes.
+     */
+    public enum Mode {
+        /** Children are run sequentially. */
+        NONE(false, false),
+        /** The child runners of suites are run in parallel. */
+        CLASSES(true, false),
+        /** The test methods of each class are run in parallel. */
+        METHODS(false, true),
+        /** Both child runners and test methods are run in parallel. */
+        ALL(true, true);
+
+        private final boolean classes;
+        private final boolean methods;
+
+        Mode(final boolean classes, final boolean methods) {
+            this.classes = classes;
+            this.methods = methods;
+        }
+    }
+
+    /**
+     * Constructor: Create a parallel scheduler for the specified runner.
+     *
+     * @param runner JUnit parent runner
+     */
+    public ParallelScheduler(final ParentRunner<?> runner) {
+        this.runner = runner;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void schedule(Runnable childStatement) {
+        tasks.add(submit(runner, childStatement));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * <b>NOTE</b>: This method waits for all scheduled children to complete, helping to run queued tasks if invoked
+     * from a thread of the shared pool.
+     */
+    @Override
+    public void finished() {
+        ForkJoinTask<?> task;
+        while ((task = tasks.poll()) != null) {
+            task.join();
+        }
+    }
+
+    /**
+     * Create a task that runs the specified child statement with its runner pushed onto the runner stack of the
+     * executing thread.
+     *
+     * @param runner JUnit parent runner
+     * @param childStatement child statement to be run
+     * @return child task
+     */
+    static Runnable childTask(final Object runner, final Runnable childStatement) {
+        return new Runnable() {
+            @Override
+            public void run() {
+                Run.pushThreadRunner(runner);
+                try {
+                    childStatement.run();
+                } finally {
+                    Run.popThreadRunner();
+                }
+            }
+        };
+    }
+
+    /**
+     * Submit the specified child statement of the indicated runner to the shared pool.
+     *
+     * @param runner JUnit parent runner
+     * @param childStatement child statement to be run
+     * @return submitted task
+     */
+    static ForkJoinTask<?> submit(final Object runner, final Runnable childStatement) {
+        ForkJoinTask<?> task = ForkJoinTask.adapt(childTask(runner, childStatement));
+
+        // if running on a thread of the shared pool
+        if (ForkJoinTask.getPool() == SharedPool.POOL) {
+            // queue locally, where idle threads can steal it
+            task.fork();
+        } else {
+            SharedPool.POOL.execute(task);
+        }
+        return task;
+    }
+
+    /**
+     * Install a parallel scheduler on the specified runner, if indicated by the configured mode.
+     * <p>
+     * <b>NOTE</b>: If the {@link JUnitSettings#PARALLEL_VIRTUAL PARALLEL_VIRTUAL} setting is enabled and the Java
+     * runtime supports virtual threads, a {@link VirtualThreadScheduler} is installed instead.
+     *
+     * @param runner JUnit test runner
+     */
+    static void install(final Object runner) {
+        if (!(runner instanceof ParentRunner)) return;
+        Mode mode = getMode();
+        if (mode == Mode.NONE) return;
+
+        boolean hasRunners = false;
+        for (Object child : (List<?>) LifecycleHooks.invoke(runner, "getChildren")) {
+            if (child instanceof Runner) {
+                hasRunners = true;
+                break;
+            }
+        }
+
+        // if children of this runner aren't run in parallel in this mode, done
+        if (hasRunners ? !mode.classes : !mode.methods) return;
+
+        try {
+            RunnerScheduler scheduler = LifecycleHooks.getFieldValue(runner, "scheduler");
+            // if runner has custom scheduler, leave it alone
+            if ((scheduler != null) && (scheduler.getClass().getEnclosingClass() != ParentRunner.class)) return;
+        } catch (IllegalAccessException | NoSuchFieldException | SecurityException e) {
+            LOGGER.warn("Unable to get scheduler of runner: {}", runner, e);
+            return;
+        }
+
+        ParentRunner<?> parentRunner = (ParentRunner<?>) runner;
+        // if virtual threads requested and supported
+        if (getConfig().getBoolean(JUnitSettings.PARALLEL_VIRTUAL.key(), false) && VirtualThreads.isSupported()) {
+            parentRunner.setScheduler(new VirtualThreadScheduler(parentRunner));
+        } else {
+            parentRunner.setScheduler(new ParallelScheduler(parentRunner));
+        }
+    }
+
+    /**
+     * Get the configured parallel execution mode.
+     *
+     * @return parallel execution {@link Mode}
+     */
+    static Mode getMode() {
+        String mode = getConfig().getString(JUnitSettings.PARALLEL_MODE.key(), Mode.NONE.name());
+        try {
+            return Mode.valueOf(mode.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            LOGGER.warn("Unsupported parallel mode: {}", mode);
+            return Mode.NONE;
+        }
+    }
+
+    /**
+     * This class provides lazy initialization of the shared work-stealing pool.
+     */
+    private static class SharedPool {
+        static final ForkJoinPool POOL;
+
+        static {
+            int parallelism = getConfig().getInt(JUnitSettings.PARALLEL_THREADS.key(),
+                    Runtime.getRuntime().availableProcessors());
+            POOL = new ForkJoinPool(Math.max(1, parallelism), new ForkJoinPool.ForkJoinWorkerThreadFactory() {
+                private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+                @Override
+                public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+                    ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                    thread.setName("junit-parallel-" + threadNumber.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            }, null, false);
+        }
+    }
+}
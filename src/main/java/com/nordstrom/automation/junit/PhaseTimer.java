@@ -0,0 +1,520 @@
+package com.nordstrom.automation.junit;
+
+import static com.nordstrom.automation.junit.LifecycleHooks.getConfig;
+import static com.nordstrom.automation.junit.LifecycleHooks.toMapKey;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.internal.runners.model.ReflectiveCallable;
+import org.junit.runners.model.FrameworkMethod;
+import org.junit.runners.model.Statement;
+import org.junit.runners.model.TestClass;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.nordstrom.automation.junit.JUnitConfig.JUnitSettings;
+
+/**
+ * This class collects the wall-clock and CPU time spent in each phase of the test lifecycle when the
+ * {@link JUnitSettings#PHASE_TIMING PHASE_TIMING} setting specifies a report file:
+ * <ul>
+ *     <li><b>CLASS_SETUP</b>: {@code @BeforeClass} methods (and other static methods, like parameter factories)</li>
+ *     <li><b>CREATE</b>: creation of test class instances</li>
+ *     <li><b>BEFORE</b>: {@code @Before} methods</li>
+ *     <li><b>TEST</b>: test methods</li>
+ *     <li><b>AFTER</b>: {@code @After} methods</li>
+ *     <li><b>RULES</b>: {@code @Rule} and {@code @ClassRule} methods, plus the time each test spends in its rules
+ *         outside of its {@code @Before}, test, and {@code @After} methods</li>
+ *     <li><b>CLASS_TEARDOWN</b>: {@code @AfterClass} methods</li>
+ * </ul>
+ * Timings are accumulated in per-thread histograms (with power-of-two microsecond buckets), so recording a phase
+ * requires no synchronization. Timings are collected across all of the test classes of each test run (see
+ * {@link RunLifecycle}). When the run finishes (or, if the run is never reported as finished, when the JVM shuts down),
+ * the histograms are merged and written to the report file as tab-separated values, with one line per phase of each
+ * test class (keyed by <i>class-name</i>) and each test method (keyed by <i>class-name</i>#<i>method-name</i>). The
+ * per-class breakdown is also logged.
+ * <p>
+ * <b>NOTE</b>: CPU time is measured for the thread that invokes each phase, and is reported as -1 if the Java runtime
+ * doesn't support thread CPU time measurement. The time a test spends in its rules is measured as the total time of
+ * the test statement minus the time of its {@code @Before}, test, and {@code @After} methods.
+ */
+class PhaseTimer {
+
+    /**
+     * This enumeration defines the timed phases of the test lifecycle.
+     */
+    enum Phase {
+        CLASS_SETUP, CREATE, BEFORE, TEST, AFTER, RULES, CLASS_TEARDOWN
+    }
+
+    private static final String HEADER = "id\tphase\tcount\twall-ms\tcpu-ms\tmax-ms\tp90-ms";
+    private static final ThreadMXBean THREAD_BEAN = ManagementFactory.getThreadMXBean();
+    private static final boolean CPU_TIME_SUPPORTED;
+    private static final Queue<Recorder> RECORDERS = new ConcurrentLinkedQueue<>();
+    private static final ThreadLocal<Recorder> RECORDER = new ThreadLocal<>();
+    private static final ThreadLocal<Object> CREATED_TARGET = new ThreadLocal<>();
+    private static final ConcurrentMap<String, long[]> FRAMES = new ConcurrentHashMap<>();
+    private static final Logger LOGGER = LoggerFactory.getLogger(PhaseTimer.class);
+
+    private static volatile int generation;
+    private static volatile String reportPath;
+    private static boolean reported;
+
+    static {
+        boolean supported = false;
+        try {
+            supported = THREAD_BEAN.isCurrentThreadCpuTimeSupported() && THREAD_BEAN.isThreadCpuTimeEnabled();
+        } catch (UnsupportedOperationException e) {
+            // nothing to do here
+        }
+        CPU_TIME_SUPPORTED = supported;
+    }
+
+    private PhaseTimer() {
+        throw new AssertionError("PhaseTimer is a static utility class that cannot be instantiated");
+    }
+
+    /**
+     * Determine if phase timings are being collected for the current run.
+     *
+     * @return {@code true} if phase timing is enabled; otherwise {@code false}
+     */
+    static boolean isEnabled() {
+        return reportPath != null;
+    }
+
+    /**
+     * Discard the phase timings of the prior run and resolve the report file of the current run. This is invoked when
+     * each test run starts.
+     */
+    static synchronized void reset() {
+        generation++;
+        reported = false;
+        RECORDERS.clear();
+        FRAMES.clear();
+        reportPath = getConfig().getString(JUnitSettings.PHASE_TIMING.key());
+    }
+
+    /**
+     * Capture the start time of a phase.
+     *
+     * @return start time as [wall-nanos, cpu-nanos]; {@code null} if phase timing is disabled
+     */
+    static long[] start() {
+        if (!isEnabled()) return null;
+        return new long[] { System.nanoTime(), cpuTime() };
+    }
+
+    /**
+     * Record the timing of the specified configuration or test method invocation.
+     *
+     * @param start start time from {@link #start()}; may be {@code null}
+     * @param runner JUnit test runner
+     * @param child child of {@code runner} that was just invoked
+     * @param callable {@link ReflectiveCallable} object that was just invoked
+     */
+    static void stopMethod(final long[] start, final Object runner, final Object child,
+            final ReflectiveCallable callable) {
+        if ((start == null) || !(child instanceof FrameworkMethod)) return;
+        long wall = System.nanoTime() - start[0];
+        long cpu = cpuTime() - start[1];
+
+        Object target = null;
+        try {
+            // get test class instance
+            target = LifecycleHooks.getFieldValue(callable, "val$target");
+        } catch (IllegalAccessException | NoSuchFieldException | SecurityException | IllegalArgumentException e) {
+            // nothing to do here
+        }
+
+        Phase phase = getPhase((FrameworkMethod) child, target);
+        String testId = null;
+        if (target != null) {
+            FrameworkMethod method = CreateTest.getMethodFor(target);
+            if (method != null) {
+                testId = DurationHistory.getTestId(getClassName(runner), method.getName());
+            }
+            // if timed within a test statement, exclude from the time spent in rules
+            if ((phase == Phase.BEFORE) || (phase == Phase.TEST) || (phase == Phase.AFTER)) {
+                long[] frame = FRAMES.get(toMapKey(target));
+                if (frame != null) {
+                    synchronized (frame) {
+                        frame[0] += wall;
+                        frame[1] += cpu;
+                    }
+                }
+            }
+        }
+        record(phase, getClassName(runner), testId, wall, cpu);
+    }
+
+    /**
+     * Record the timing of the creation of the specified test class instance.
+     *
+     * @param start start time from {@link #start()}; may be {@code null}
+     * @param runner JUnit test runner
+     * @param method target method for this test class instance
+     * @param target test class instance that was just created
+     */
+    static void stopCreate(final long[] start, final Object runner, final FrameworkMethod method,
+            final Object target) {
+        if (start == null) return;
+        long wall = System.nanoTime() - start[0];
+        long cpu = cpuTime() - start[1];
+        String className = getClassName(runner);
+        record(Phase.CREATE, className, DurationHistory.getTestId(className, method.getName()), wall, cpu);
+        CREATED_TARGET.set(target);
+    }
+
+    /**
+     * Get and clear the test class instance most recently created on the current thread.
+     *
+     * @return test class instance; {@code null} if none was created while phase timing was enabled
+     */
+    static Object takeCreatedTarget() {
+        Object target = CREATED_TARGET.get();
+        if (target != null) {
+            CREATED_TARGET.remove();
+        }
+        return target;
+    }
+
+    /**
+     * Wrap the specified test statement to measure the time spent in its rules.
+     *
+     * @param runner JUnit test runner
+     * @param method framework method that's the "identity" of the test
+     * @param target test class instance from {@link #takeCreatedTarget()}; may be {@code null}
+     * @param statement test statement from the {@code methodBlock} method
+     * @return timed test statement; the original statement if phase timing is disabled
+     */
+    static Statement wrapStatement(final Object runner, final FrameworkMethod method, final Object target,
+            final Statement statement) {
+        if ((target == null) || !isEnabled()) return statement;
+
+        final String className = getClassName(runner);
+        final String testId = DurationHistory.getTestId(className, method.getName());
+        return new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                String key = toMapKey(target);
+                long[] frame = new long[2];
+                FRAMES.put(key, frame);
+                long startWall = System.nanoTime();
+                long startCpu = cpuTime();
+                try {
+                    statement.evaluate();
+                } finally {
+                    long wall = System.nanoTime() - startWall;
+                    long cpu = cpuTime() - startCpu;
+                    FRAMES.remove(key);
+                    synchronized (frame) {
+                        wall -= frame[0];
+                        cpu -= frame[1];
+                    }
+                    record(Phase.RULES, className, testId, Math.max(0, wall), Math.max(0, cpu));
+                }
+            }
+        };
+    }
+
+    /**
+     * Merge the phase timings of the current run, write them to the report file, and log the per-class breakdown.
+     * This is invoked when each test run finishes and at shutdown; the timings of each run are only reported once.
+     */
+    static synchronized void report() {
+        String pathStr = reportPath;
+        if ((pathStr == null) || reported) return;
+        reported = true;
+
+        Map<String, Histogram[]> merged = getTimings();
+        List<String> ids = new ArrayList<>(merged.keySet());
+        final Map<String, Long> totals = new HashMap<>();
+        for (String id : ids) {
+            long total = 0;
+            for (Histogram histogram : merged.get(id)) {
+                if (histogram != null) total += histogram.wallTotal;
+            }
+            totals.put(id, total);
+        }
+        // order by total wall time, longest first
+        Collections.sort(ids, new Comparator<String>() {
+            @Override
+            public int compare(String id1, String id2) {
+                int result = Long.compare(totals.get(id2), totals.get(id1));
+                return (result != 0) ? result : id1.compareTo(id2);
+            }
+        });
+
+        Path reportFile = Paths.get(pathStr).toAbsolutePath();
+        try {
+            Path parent = reportFile.getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (BufferedWriter writer = Files.newBufferedWriter(reportFile, StandardCharsets.UTF_8)) {
+                writer.write(HEADER);
+                writer.newLine();
+                for (String id : ids) {
+                    Histogram[] histograms = merged.get(id);
+                    for (Phase phase : Phase.values()) {
+                        Histogram histogram = histograms[phase.ordinal()];
+                        if (histogram == null) continue;
+                        writer.write(id + "\t" + phase + "\t" + histogram.count + "\t" + millis(histogram.wallTotal)
+                                + "\t" + (CPU_TIME_SUPPORTED ? millis(histogram.cpuTotal) : "-1") + "\t"
+                                + millis(histogram.wallMax) + "\t" + millis(histogram.getPercentile(90)));
+                        writer.newLine();
+                    }
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Unable to write phase timings: {}", reportFile, e);
+        }
+
+        if (LOGGER.isInfoEnabled()) {
+            for (String id : ids) {
+                // if test method, skip it
+                if (id.indexOf('#') >= 0) continue;
+                StringBuilder builder = new StringBuilder();
+                Histogram[] histograms = merged.get(id);
+                for (Phase phase : Phase.values()) {
+                    Histogram histogram = histograms[phase.ordinal()];
+                    if (histogram == null) continue;
+                    builder.append(' ').append(phase.name().toLowerCase(Locale.ROOT).replace('_', '-'))
+                            .append('=').append(millis(histogram.wallTotal)).append("ms");
+                }
+                LOGGER.info("Phase timings for {}:{}", id, builder);
+            }
+        }
+    }
+
+    /**
+     * Get the merged phase timings of the current run.
+     *
+     * @return map of class names and test identifiers to phase histograms (indexed by {@link Phase} ordinal)
+     */
+    static Map<String, Histogram[]> getTimings() {
+        Map<String, Histogram[]> merged = new HashMap<>();
+        for (Recorder recorder : RECORDERS) {
+            for (Map.Entry<String, Histogram[]> entry : recorder.histograms.entrySet()) {
+                Histogram[] target = merged.get(entry.getKey());
+                if (target == null) {
+                    target = new Histogram[Phase.values().length];
+                    merged.put(entry.getKey(), target);
+                }
+                Histogram[] source = entry.getValue();
+                for (int i = 0; i < source.length; i++) {
+                    if (source[i] == null) continue;
+                    if (target[i] == null) {
+                        target[i] = new Histogram();
+                    }
+                    target[i].merge(source[i]);
+                }
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Determine the lifecycle phase of the specified method.
+     *
+     * @param method framework method
+     * @param target test class instance; {@code null} for static methods
+     * @return lifecycle {@link Phase}
+     */
+    static Phase getPhase(final FrameworkMethod method, final Object target) {
+        if (method.getAnnotation(BeforeClass.class) != null) return Phase.CLASS_SETUP;
+        if (method.getAnnotation(AfterClass.class) != null) return Phase.CLASS_TEARDOWN;
+        if (method.getAnnotation(Before.class) != null) return Phase.BEFORE;
+        if (method.getAnnotation(After.class) != null) return Phase.AFTER;
+        if ((method.getAnnotation(Rule.class) != null) || (method.getAnnotation(ClassRule.class) != null)) {
+            return Phase.RULES;
+        }
+        return (target != null) ? Phase.TEST : Phase.CLASS_SETUP;
+    }
+
+    /**
+     * Record a timing sample in the histograms of the current thread.
+     *
+     * @param phase lifecycle phase
+     * @param className name of the test class
+     * @param testId stable test identifier; {@code null} for class-level phases
+     * @param wall elapsed wall-clock time in nanoseconds
+     * @param cpu elapsed CPU time in nanoseconds
+     */
+    private static void record(final Phase phase, final String className, final String testId,
+            final long wall, final long cpu) {
+        if (className == null) return;
+        Recorder recorder = RECORDER.get();
+        // if first sample of this run for this thread
+        if ((recorder == null) || (recorder.generation != generation)) {
+            recorder = new Recorder(generation);
+            RECORDER.set(recorder);
+            RECORDERS.add(recorder);
+        }
+        recorder.getHistogram(className, phase).add(wall, cpu);
+        if (testId != null) {
+            recorder.getHistogram(testId, phase).add(wall, cpu);
+        }
+    }
+
+    /**
+     * Get the name of the test class of the specified runner.
+     *
+     * @param runner JUnit test runner
+     * @return test class name; {@code null} if the runner has no test class
+     */
+    private static String getClassName(final Object runner) {
+        TestClass testClass = LifecycleHooks.getTestClassOf(runner);
+        if ((testClass == null) || (testClass.getJavaClass() == null)) return null;
+        return testClass.getName();
+    }
+
+    /**
+     * Get the CPU time of the current thread.
+     *
+     * @return CPU time in nanoseconds; 0 if unsupported
+     */
+    private static long cpuTime() {
+        return CPU_TIME_SUPPORTED ? THREAD_BEAN.getCurrentThreadCpuTime() : 0;
+    }
+
+    /**
+     * Format the specified duration in milliseconds.
+     *
+     * @param nanos duration in nanoseconds
+     * @return duration in milliseconds, with three decimal places
+     */
+    private static String millis(final long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1000000.0);
+    }
+
+    /**
+     * This class holds the phase histograms recorded by a single thread during a single run.
+     */
+    private static class Recorder {
+        private final int generation;
+        private final Map<String, Histogram[]> histograms = new HashMap<>();
+
+        Recorder(final int generation) {
+            this.generation = generation;
+        }
+
+        Histogram getHistogram(final String id, final Phase phase) {
+            Histogram[] phases = histograms.get(id);
+            if (phases == null) {
+                phases = new Histogram[Phase.values().length];
+                histograms.put(id, phases);
+            }
+            Histogram histogram = phases[phase.ordinal()];
+            if (histogram == null) {
+                histogram = new Histogram();
+                phases[phase.ordinal()] = histogram;
+            }
+            return histogram;
+        }
+    }
+
+    /**
+     * This class implements a histogram of phase timings, with power-of-two microsecond buckets.
+     */
+    static class Histogram {
+        private static final int BUCKETS = 48;
+
+        private final long[] buckets = new long[BUCKETS];
+        private long count;
+        private long wallTotal;
+        private long cpuTotal;
+        private long wallMax;
+
+        /**
+         * Add a timing sample to this histogram.
+         *
+         * @param wall elapsed wall-clock time in nanoseconds
+         * @param cpu elapsed CPU time in nanoseconds
+         */
+        void add(final long wall, final long cpu) {
+            count++;
+            wallTotal += wall;
+            cpuTotal += cpu;
+            wallMax = Math.max(wallMax, wall);
+            buckets[Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(wall / 1000))]++;
+        }
+
+        /**
+         * Merge the samples of the specified histogram into this one.
+         *
+         * @param other histogram to be merged
+         */
+        void merge(final Histogram other) {
+            count += other.count;
+            wallTotal += other.wallTotal;
+            cpuTotal += other.cpuTotal;
+            wallMax = Math.max(wallMax, other.wallMax);
+            for (int i = 0; i < BUCKETS; i++) {
+                buckets[i] += other.buckets[i];
+            }
+        }
+
+        /**
+         * Get the specified percentile of the wall-clock times in this histogram. The result is the upper bound of
+         * the bucket that holds the percentile, capped by the maximum recorded time.
+         *
+         * @param percentile desired percentile (0 to 100)
+         * @return wall-clock time in nanoseconds
+         */
+        long getPercentile(final double percentile) {
+            long rank = (long) Math.ceil(percentile / 100 * count);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += buckets[i];
+                if ((seen > 0) && (seen >= rank)) {
+                    return Math.min(wallMax, (1L << i) * 1000);
+                }
+            }
+            return wallMax;
+        }
+
+        /**
+         * Get the number of samples in this histogram.
+         *
+         * @return sample count
+         */
+        long getCount() {
+            return count;
+        }
+
+        /**
+         * Get the total wall-clock time of the samples in this histogram.
+         *
+         * @return wall-clock time in nanoseconds
+         */
+        long getWallTotal() {
+            return wallTotal;
+        }
+    }
+}
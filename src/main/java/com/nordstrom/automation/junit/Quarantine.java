@@ -0,0 +1,26 @@
+package com.nordstrom.automation.junit;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Use this annotation to mark test methods and classes that are known to be flaky. Quarantined tests are run in a
+ * dedicated thread pool, concurrently with the rest of the suite, and their failures are reported as assumption
+ * failures so they don't fail the build:
+ * 
+ * <blockquote><pre>
+ * &#64;Test
+ * &#64;Quarantine
+ * public void testFlaky() {
+ *     // test implementation goes here
+ * }</pre></blockquote>
+ * 
+ * @see QuarantineHandler
+ */
+@Retention(RUNTIME)
+@Target({TYPE, METHOD})
+public @interface Quarantine { }
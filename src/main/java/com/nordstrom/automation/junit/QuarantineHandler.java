@@ -0,0 +1,248 @@
+package com.nordstrom.automation.junit;
+
+import static com.nordstrom.automation.junit.LifecycleHooks.getConfig;
+import static com.nordstrom.automation.junit.LifecycleHooks.invoke;
+import static com.nordstrom.automation.junit.LifecycleHooks.toMapKey;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.junit.AssumptionViolatedException;
+import org.junit.runner.Description;
+import org.junit.runner.Result;
+import org.junit.runner.notification.Failure;
+import org.junit.runner.notification.RunListener;
+import org.junit.runner.notification.RunNotifier;
+import org.junit.runner.notification.StoppedByUserException;
+import org.junit.runners.model.FrameworkMethod;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.nordstrom.automation.junit.JUnitConfig.JUnitSettings;
+
+/**
+ * This class implements the quarantine lane for known-flaky tests. Test methods that are marked with the
+ * {@link Quarantine @Quarantine} annotation (or listed in the file specified by the
+ * {@link JUnitSettings#QUARANTINE_LIST QUARANTINE_LIST} setting) are run in a dedicated bounded thread pool,
+ * concurrently with the remaining children of their runner. Failures of quarantined tests are reported as
+ * assumption failures, so they're recorded without failing the build.
+ * <p>
+ * <b>NOTE</b>: Quarantined tests are awaited before their runner finishes, so class-level configuration methods
+ * (e.g. - {@code @AfterClass}) run after all of the quarantined tests have completed. The quarantine list is loaded
+ * when each test run starts.
+ */
+public class QuarantineHandler {
+
+    private static final ThreadLocal<Boolean> IN_QUARANTINE = new ThreadLocal<>();
+    private static final Map<String, Queue<Future<?>>> RUNNER_TO_FUTURES = new ConcurrentHashMap<>();
+    private static final Logger LOGGER = LoggerFactory.getLogger(QuarantineHandler.class);
+
+    private static volatile Set<String> quarantineList = Collections.emptySet();
+
+    private QuarantineHandler() {
+        throw new AssertionError("QuarantineHandler is a static utility class that cannot be instantiated");
+    }
+
+    /**
+     * Determine if the specified test method is quarantined.
+     * <p>
+     * <b>NOTE</b>: This method returns {@code false} when invoked from a thread of the quarantine pool.
+     *
+     * @param runner JUnit test runner
+     * @param method test method being considered
+     * @return {@code true} if the specified method is quarantined; otherwise {@code false}
+     */
+    static boolean isQuarantined(final Object runner, final FrameworkMethod method) {
+        // if already running in quarantine, don't re-route
+        if (Boolean.TRUE.equals(IN_QUARANTINE.get())) return false;
+
+        Class<?> testClass = LifecycleHooks.getTestClassOf(runner).getJavaClass();
+        if ((method.getAnnotation(Quarantine.class) != null) || (testClass.getAnnotation(Quarantine.class) != null)) {
+            return true;
+        }
+
+        Set<String> quarantineList = QuarantineHandler.quarantineList;
+        return !quarantineList.isEmpty() && (quarantineList.contains(testClass.getName())
+                || quarantineList.contains(testClass.getName() + "#" + method.getName()));
+    }
+
+    /**
+     * Submit the specified quarantined test method to the quarantine thread pool.
+     * <p>
+     * <b>NOTE</b>: If all threads of the pool are busy, the test method is queued until a thread is available.
+     *
+     * @param runner JUnit test runner
+     * @param method quarantined test method
+     * @param notifier run notifier through which events are published
+     */
+    static void runQuarantined(final Object runner, final FrameworkMethod method, final RunNotifier notifier) {
+        final RunNotifier quarantineNotifier = new QuarantineNotifier(notifier);
+        Future<?> future = QuarantinePool.EXECUTOR.submit(new Runnable() {
+            @Override
+            public void run() {
+                IN_QUARANTINE.set(Boolean.TRUE);
+                Run.pushThreadRunner(runner);
+                try {
+                    invoke(runner, "runChild", method, quarantineNotifier);
+                } finally {
+                    Run.popThreadRunner();
+                    IN_QUARANTINE.remove();
+                }
+            }
+        });
+
+        Queue<Future<?>> futures = RUNNER_TO_FUTURES.get(toMapKey(runner));
+        if (futures == null) {
+            futures = new ConcurrentLinkedQueue<>();
+            Queue<Future<?>> existing = RUNNER_TO_FUTURES.putIfAbsent(toMapKey(runner), futures);
+            if (existing != null) futures = existing;
+        }
+        futures.add(future);
+    }
+
+    /**
+     * Wait for the quarantined test methods of the specified runner to complete.
+     *
+     * @param runner JUnit test runner
+     */
+    static void awaitQuarantined(final Object runner) {
+        if (runner == null) return;
+        Queue<Future<?>> futures = RUNNER_TO_FUTURES.remove(toMapKey(runner));
+        if (futures != null) {
+            for (Future<?> future : futures) {
+                if (!DaemonPool.await(future, LOGGER, "Quarantined test aborted unexpectedly")) return;
+            }
+        }
+    }
+
+    /**
+     * Load the quarantine list from the file specified by the {@link JUnitSettings#QUARANTINE_LIST QUARANTINE_LIST}
+     * setting. This is invoked when each test run starts.
+     */
+    static void loadQuarantineList() {
+        Set<String> entries = new HashSet<>();
+        String listPath = getConfig().getString(JUnitSettings.QUARANTINE_LIST.key());
+        if (listPath != null) {
+            Path path = Paths.get(listPath);
+            try {
+                List<String> lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+                for (String line : lines) {
+                    String entry = line.trim();
+                    // skip blank lines and comments
+                    if (!entry.isEmpty() && !entry.startsWith("#")) {
+                        entries.add(entry);
+                    }
+                }
+            } catch (IOException e) {
+                LOGGER.warn("Unable to read quarantine list: {}", path, e);
+            }
+        }
+        quarantineList = Collections.unmodifiableSet(entries);
+    }
+
+    /**
+     * This class provides lazy initialization of the quarantine thread pool.
+     */
+    private static class QuarantinePool {
+        static final ExecutorService EXECUTOR;
+
+        static {
+            int threads = Math.max(1, getConfig().getInt(JUnitSettings.QUARANTINE_THREADS.key(), 2));
+            // quarantined tests are never run by the caller, which is already running their runner
+            EXECUTOR = DaemonPool.newFixedPool("quarantine-", threads);
+        }
+    }
+
+    /**
+     * This run notifier forwards events to the notifier of the quarantined test, converting failures into assumption
+     * failures.
+     */
+    private static class QuarantineNotifier extends RunNotifier {
+        private final RunNotifier notifier;
+
+        QuarantineNotifier(final RunNotifier notifier) {
+            this.notifier = notifier;
+        }
+
+        @Override
+        public void addListener(RunListener listener) {
+            notifier.addListener(listener);
+        }
+
+        @Override
+        public void removeListener(RunListener listener) {
+            notifier.removeListener(listener);
+        }
+
+        @Override
+        public void addFirstListener(RunListener listener) {
+            notifier.addFirstListener(listener);
+        }
+
+        @Override
+        public void fireTestRunStarted(Description description) {
+            notifier.fireTestRunStarted(description);
+        }
+
+        @Override
+        public void fireTestRunFinished(Result result) {
+            notifier.fireTestRunFinished(result);
+        }
+
+        @Override
+        public void fireTestSuiteStarted(Description description) {
+            notifier.fireTestSuiteStarted(description);
+        }
+
+        @Override
+        public void fireTestSuiteFinished(Description description) {
+            notifier.fireTestSuiteFinished(description);
+        }
+
+        @Override
+        public void fireTestStarted(Description description) throws StoppedByUserException {
+            notifier.fireTestStarted(description);
+        }
+
+        @Override
+        public void fireTestFailure(Failure failure) {
+            Throwable thrown = failure.getException();
+            LOGGER.warn("### QUARANTINED ### {}", failure.getDescription(), thrown);
+            notifier.fireTestAssumptionFailed(new Failure(failure.getDescription(),
+                    new AssumptionViolatedException("Quarantined test failed: " + thrown, thrown)));
+        }
+
+        @Override
+        public void fireTestAssumptionFailed(Failure failure) {
+            notifier.fireTestAssumptionFailed(failure);
+        }
+
+        @Override
+        public void fireTestIgnored(Description description) {
+            notifier.fireTestIgnored(description);
+        }
+
+        @Override
+        public void fireTestFinished(Description description) {
+            notifier.fireTestFinished(description);
+        }
+
+        @Override
+        public void pleaseStop() {
+            notifier.pleaseStop();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.nordstrom.automation.junit;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Use this annotation to declare that test methods use a shared external resource (e.g. - a port, a file, or a
+ * database schema). When test methods are run in parallel, each method holds a lock on the resources it declares while
+ * it runs, so methods that contend for a resource don't run concurrently:
+ * 
+ * <blockquote><pre>
+ * &#64;Test
+ * &#64;ResourceLock("db.schema")
+ * &#64;ResourceLock(value = "config.file", mode = ResourceLock.Mode.READ)
+ * public void testMigration() {
+ *     // test implementation goes here
+ * }</pre></blockquote>
+ * 
+ * Methods that declare {@link Mode#READ READ} access to a resource may run concurrently with each other, but not with
+ * methods that declare {@link Mode#READ_WRITE READ_WRITE} access. Resource locks declared on a test class apply to
+ * each of its methods.
+ */
+@Retention(RUNTIME)
+@Target({TYPE, METHOD})
+@Repeatable(ResourceLock.List.class)
+public @interface ResourceLock {
+    
+    /**
+     * Get the name of the shared resource.
+     * 
+     * @return resource name
+     */
+    String value();
+    
+    /**
+     * Get the mode of access to the shared resource.
+     * 
+     * @return resource access mode
+     */
+    Mode mode() default Mode.READ_WRITE;
+    
+    /**
+     * This enumeration defines the modes of access to shared resources.
+     */
+    enum Mode {
+        /** Shared access: methods with read access may run concurrently. */
+        READ,
+        /** Exclusive access: no other method that uses the resource may run concurrently. */
+        READ_WRITE
+    }
+    
+    /**
+     * This is the container annotation for repeated {@link ResourceLock} annotations.
+     */
+    @Retention(RUNTIME)
+    @Target({TYPE, METHOD})
+    @interface List {
+        
+        /**
+         * Get the contained resource lock annotations.
+         * 
+         * @return array of {@link ResourceLock} annotations
+         */
+        ResourceLock[] value();
+    }
+}
@@ -0,0 +1,142 @@
+package com.nordstrom.automation.junit;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+import org.junit.Ignore;
+import org.junit.runners.model.FrameworkMethod;
+import org.junit.runners.model.TestClass;
+
+import com.nordstrom.automation.junit.ResourceLock.Mode;
+import com.nordstrom.common.base.UncheckedThrow;
+
+/**
+ * This class maintains the locks for shared resources declared by the {@link ResourceLock} annotation. Each named
+ * resource has a read-write lock, and the locks declared by a test method are acquired in order of resource name, so
+ * methods that declare overlapping resources can't deadlock. If a method declares more than one mode of access to a
+ * resource, {@link Mode#READ_WRITE READ_WRITE} access is acquired.
+ * <p>
+ * <b>NOTE</b>: Lock acquisition is managed by {@link ForkJoinPool#managedBlock}, so a thread of the shared parallel
+ * pool that's waiting for a lock is replaced by a spare thread instead of reducing the parallelism of the pool.
+ */
+class ResourceLockRegistry {
+
+    private static final ConcurrentMap<String, ReadWriteLock> LOCKS = new ConcurrentHashMap<>();
+    private static final Function<String, ReadWriteLock> NEW_INSTANCE = new Function<String, ReadWriteLock>() {
+        @Override
+        public ReadWriteLock apply(String input) {
+            return new ReentrantReadWriteLock();
+        }
+    };
+
+    private ResourceLockRegistry() {
+        throw new AssertionError("ResourceLockRegistry is a static utility class that cannot be instantiated");
+    }
+
+    /**
+     * Acquire the resource locks declared for the specified runner child.
+     *
+     * @param runner JUnit test runner
+     * @param child {@code ParentRunner} or {@code FrameworkMethod} object
+     * @return list of acquired locks (empty if none declared)
+     */
+    static List<Lock> acquire(final Object runner, final Object child) {
+        Map<String, Mode> resources = getResources(runner, child);
+        if (resources.isEmpty()) return Collections.emptyList();
+
+        List<Lock> locks = new ArrayList<>(resources.size());
+        try {
+            for (Map.Entry<String, Mode> entry : resources.entrySet()) {
+                ReadWriteLock readWriteLock = LifecycleHooks.computeIfAbsent(LOCKS, entry.getKey(), NEW_INSTANCE);
+                Lock lock = (entry.getValue() == Mode.READ) ? readWriteLock.readLock() : readWriteLock.writeLock();
+                ForkJoinPool.managedBlock(new LockBlocker(lock));
+                locks.add(lock);
+            }
+        } catch (InterruptedException e) {
+            release(locks);
+            Thread.currentThread().interrupt();
+            throw UncheckedThrow.throwUnchecked(e);
+        }
+        return locks;
+    }
+
+    /**
+     * Release the specified resource locks, in reverse order of acquisition.
+     *
+     * @param locks list of acquired locks
+     */
+    static void release(final List<Lock> locks) {
+        for (int i = locks.size() - 1; i >= 0; i--) {
+            locks.get(i).unlock();
+        }
+    }
+
+    /**
+     * Get the shared resources declared for the specified runner child.
+     *
+     * @param runner JUnit test runner
+     * @param child {@code ParentRunner} or {@code FrameworkMethod} object
+     * @return map of resource names to access modes, sorted by name
+     */
+    private static Map<String, Mode> getResources(final Object runner, final Object child) {
+        Map<String, Mode> resources = new TreeMap<>();
+        // if child isn't a framework method, no locks
+        if (!(child instanceof FrameworkMethod)) return resources;
+        FrameworkMethod method = (FrameworkMethod) child;
+        // if method is being ignored, no locks
+        if (null != method.getAnnotation(Ignore.class)) return resources;
+
+        List<ResourceLock> declared = new ArrayList<>();
+        TestClass testClass = LifecycleHooks.getTestClassOf(runner);
+        if ((testClass != null) && (testClass.getJavaClass() != null)) {
+            declared.addAll(Arrays.asList(testClass.getJavaClass().getAnnotationsByType(ResourceLock.class)));
+        }
+        declared.addAll(Arrays.asList(method.getMethod().getAnnotationsByType(ResourceLock.class)));
+
+        for (ResourceLock resourceLock : declared) {
+            Mode mode = resources.get(resourceLock.value());
+            // if not already declared for exclusive access
+            if (mode != Mode.READ_WRITE) {
+                resources.put(resourceLock.value(), resourceLock.mode());
+            }
+        }
+        return resources;
+    }
+
+    /**
+     * This class enables the thread of a fork-join pool to block while acquiring a lock.
+     */
+    private static class LockBlocker implements ForkJoinPool.ManagedBlocker {
+        private final Lock lock;
+        private boolean locked;
+
+        LockBlocker(final Lock lock) {
+            this.lock = lock;
+        }
+
+        @Override
+        public boolean block() throws InterruptedException {
+            if (!locked) {
+                lock.lockInterruptibly();
+                locked = true;
+            }
+            return true;
+        }
+
+        @Override
+        public boolean isReleasable() {
+            return locked || (locked = lock.tryLock());
+        }
+    }
+}
@@ -4,9 +4,7 @@ import static com.nordstrom.automation.junit.LifecycleHooks.getConfig;
 import static com.nordstrom.automation.junit.LifecycleHooks.invoke;
 import static com.nordstrom.automation.junit.LifecycleHooks.toMapKey;
 
-import java.util.Map;
 import java.util.ServiceLoader;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.internal.AssumptionViolatedException;
@@ -25,7 +23,7 @@ import com.nordstrom.automation.junit.JUnitConfig.JUnitSettings;
  */
 public class RetryHandler {
 
-    private static final Map<String, Boolean> METHOD_TO_RETRY = new ConcurrentHashMap<>();
+    private static final ThreadLocal<String> METHOD_TO_RETRY = new ThreadLocal<>();
     private static final Logger LOGGER = LoggerFactory.getLogger(RetryHandler.class);
     
     private RetryHandler() {
@@ -93,14 +91,19 @@ public class RetryHandler {
             // if no retry, exit
             if (!doRetry) break;
             
+            String prior = METHOD_TO_RETRY.get();
             try {
                 // retain method to retry for JUnitParams
-                METHOD_TO_RETRY.put(toMapKey(method), true);
+                METHOD_TO_RETRY.set(toMapKey(method));
                 // create new "atomic test" for next iteration
                 iteration = invoke(runner, "methodBlock", method);
             } finally {
-                // release method to retry
-                METHOD_TO_RETRY.remove(toMapKey(method));
+                // restore prior method to retry
+                if (prior != null) {
+                    METHOD_TO_RETRY.set(prior);
+                } else {
+                    METHOD_TO_RETRY.remove();
+                }
             }
         } while (true);
         
@@ -153,14 +156,17 @@ public class RetryHandler {
     }
     
     /**
-     * Determine if the specified method is being retried.
+     * Determine if the specified method is being retried by the current thread.
+     * <p>
+     * <b>NOTE</b>: Retry state is maintained per thread, so concurrent attempts of other parameter sets of the same
+     * method aren't mistaken for retries.
      * 
      * @param method JUnit framework method
      * @return {@code true} if method is being retried; otherwise {@code false}
      */
     static boolean doRetryFor(final FrameworkMethod method) {
-        Boolean doRetry = METHOD_TO_RETRY.get(toMapKey(method));
-        return (doRetry != null) ? doRetry.booleanValue() : false;
+        String retryKey = METHOD_TO_RETRY.get();
+        return (retryKey != null) && retryKey.equals(toMapKey(method));
     }
     
     /**
@@ -87,7 +87,7 @@ public class Run {
             LifecycleHooks.callProxy(proxy);
         } finally {
             if (0 == depthGauge.decreaseDepth()) {
-                METHOD_DEPTH.get().remove(toMapKey(runner));
+                DepthGauge.release(METHOD_DEPTH, toMapKey(runner));
                 fireRunFinished(runner);
                 popThreadRunner();
                 RUNNER_TO_NOTIFIER.remove(toMapKey(runner));
@@ -126,12 +126,21 @@ public class Run {
     
     /**
      * Pop the top JUnit test runner from the stack for the current thread.
+     * <p>
+     * <b>NOTE</b>: When the last runner is popped, the stack is removed from the current thread, so short-lived
+     * threads (e.g. - virtual threads) don't retain runner stacks.
      * 
      * @return {@code ParentRunner} object
      * @throws EmptyStackException if called outside the scope of an active runner
      */
     static Object popThreadRunner() {
-        return RUNNER_STACK.get().pop();
+        Deque<Object> stack = RUNNER_STACK.get();
+        Object runner = stack.pop();
+        // if stack is empty, release it
+        if (stack.isEmpty()) {
+            RUNNER_STACK.remove();
+        }
+        return runner;
     }
     
     /**
@@ -3,9 +3,12 @@ package com.nordstrom.automation.junit;
 import static com.nordstrom.automation.junit.LifecycleHooks.invoke;
 import static com.nordstrom.automation.junit.LifecycleHooks.toMapKey;
 
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+
 import org.junit.Ignore;
 import org.junit.experimental.theories.Theories;
 import org.junit.runner.notification.RunNotifier;
@@ -48,11 +51,50 @@ public class RunChild {
             Run.attachRunListeners(runner, notifier);
         }
         
+        // if circuit breaker has tripped
+        if (CircuitBreaker.isTripped()) {
+            // report child as ignored
+            notifier.fireTestIgnored(invoke(runner, "describeChild", child));
+            // done
+            return;
+        }
+        
+        // acquire locks on shared resources declared for this child
+        List<Lock> locks = ResourceLockRegistry.acquire(runner, child);
+        try {
+            runChild(runner, proxy, child, notifier);
+        } finally {
+            ResourceLockRegistry.release(locks);
+            // release parameter set indexes of this thread
+            NextCount.releaseParamSetIndexes();
+        }
+    }
+    
+    /**
+     * Run the specified child of the indicated runner, in quarantine or with retry if so configured.
+     * 
+     * @param runner underlying test runner
+     * @param proxy callable proxy for the intercepted method
+     * @param child {@code ParentRunner} or {@code FrameworkMethod} object
+     * @param notifier run notifier through which events are published
+     * @throws Exception {@code anything} (exception thrown by the intercepted method)
+     */
+    private static void runChild(final Object runner, final Callable<?> proxy, final Object child,
+                    final RunNotifier notifier) throws Exception {
+        
         // if child is a framework method (but not the theory template)
         if (!(runner instanceof Theories) && (child instanceof FrameworkMethod)) {
             FrameworkMethod method = (FrameworkMethod) child;
             // if this method isn't being ignored
             if (null == method.getAnnotation(Ignore.class)) {
+                // if this method is quarantined
+                if (QuarantineHandler.isQuarantined(runner, method)) {
+                    // run method in quarantine lane
+                    QuarantineHandler.runQuarantined(runner, method, notifier);
+                    // done
+                    return;
+                }
+                
                 // get configured maximum retry count
                 int maxRetry = RetryHandler.getMaxRetry(runner, method);
                 // if retry enabled
@@ -72,9 +114,12 @@ public class RunChild {
     
     /**
      * Fire the {@link RunnerWatcher#runFinished(Object)} event for the current runner.
+     * <p>
+     * <b>NOTE</b>: This method waits for quarantined children of the current runner to complete.
      */
     static void finished() {
         Object runner = Run.getThreadRunner();
+        QuarantineHandler.awaitQuarantined(runner);
         Boolean didNotify = DID_NOTIFY.remove(toMapKey(runner));
         if ((didNotify != null) && didNotify) {
             Run.fireRunFinished(runner);
@@ -0,0 +1,96 @@
+package com.nordstrom.automation.junit;
+
+import org.junit.runner.Description;
+import org.junit.runner.Result;
+import org.junit.runner.notification.RunListener;
+
+/**
+ * This class manages the run-scoped features of <b>JUnit Foundation</b> as test runs and test runners start and finish:
+ * <ul>
+ *     <li>When each test run starts, the state of the prior run is discarded: The circuit breaker is reset (see
+ *         {@link CircuitBreaker}), phase timings and the artifact index are cleared (see {@link PhaseTimer} and
+ *         {@link ArtifactIndex}), and artifact packs and manifests are closed (see {@link ArtifactPack} and
+ *         {@link ArtifactManifest}). The quarantine list and duration history are then loaded (see
+ *         {@link QuarantineHandler} and {@link DurationHistory}).</li>
+ *     <li>When each root runner starts, it's restricted to the assigned shard (see {@link ShardFilter}).</li>
+ *     <li>As each runner starts, its children are ordered by recorded duration (see {@link DurationSorter}) and the
+ *         parallel scheduler is installed (see {@link ParallelScheduler}).</li>
+ *     <li>When each test run finishes, phase timings are reported.</li>
+ *     <li>When the JVM shuts down, pending asynchronous artifact writes are completed (see {@link ArtifactWriter}),
+ *         after which artifact packs and manifests are closed (see {@link ArtifactPack} and
+ *         {@link ArtifactManifest}). Phase timings of a run that was never reported as finished are reported.</li>
+ * </ul>
+ * A test run spans all of the root runners that publish their events through the same run notifier. Build tools that
+ * run each test class as a separate root runner (e.g. - the JUnit 4 provider of Maven Surefire) share one notifier
+ * across all classes, so run-scoped state is retained from class to class.
+ * <p>
+ * <b>NOTE</b>: This watcher is attached automatically by <b>JUnit Foundation</b>.
+ */
+@RunListener.ThreadSafe
+public class RunLifecycle extends RunListener implements RunnerWatcher, ShutdownListener {
+
+    /**
+     * Default constructor
+     */
+    public RunLifecycle() { }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void testRunStarted(Description description) {
+        // discard state of prior run
+        CircuitBreaker.reset();
+        TimeoutUtils.resetCache();
+        PhaseTimer.reset();
+        ArtifactIndex.reset();
+        ArtifactSequence.reset();
+        ArtifactPack.closeAll();
+        ArtifactManifest.closeAll();
+        // load quarantine list and duration history
+        QuarantineHandler.loadQuarantineList();
+        DurationHistory.resolve();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void testRunFinished(Result result) {
+        PhaseTimer.report();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void runStarted(Object runner) {
+        // if starting root runner
+        if (Run.getParentOf(runner) == null) {
+            // restrict run to assigned shard
+            ShardFilter.install(runner);
+        }
+        DurationSorter.install(runner);
+        ParallelScheduler.install(runner);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void runFinished(Object runner) {
+        // nothing to do here
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onShutdown() {
+        // complete pending writes before closing their targets
+        ArtifactWriter.flush();
+        ArtifactPack.closeAll();
+        ArtifactManifest.closeAll();
+        PhaseTimer.report();
+    }
+}
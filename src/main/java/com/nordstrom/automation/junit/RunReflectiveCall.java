@@ -101,13 +101,17 @@ public class RunReflectiveCall {
         
         Object result = null;
         Throwable thrown = null;
+        long[] start = null;
 
         try {
-            fireBeforeInvocation(runner, child, callable);
+            if (fireBeforeInvocation(runner, child, callable)) {
+                start = PhaseTimer.start();
+            }
             result = LifecycleHooks.callProxy(proxy);
         } catch (Throwable t) {
             thrown = t;
         } finally {
+            PhaseTimer.stopMethod(start, runner, child, callable);
             fireAfterInvocation(runner, child, callable, thrown);
             if (didPush) {
                 Run.popThreadRunner();
@@ -228,7 +232,7 @@ public class RunReflectiveCall {
         if ((runner != null) && (child != null)) {
             DepthGauge depthGauge = METHOD_DEPTH.get().get(callable.hashCode());
             if (0 == depthGauge.decreaseDepth()) {
-                METHOD_DEPTH.get().remove(callable.hashCode());
+                DepthGauge.release(METHOD_DEPTH, callable.hashCode());
                 if (child instanceof FrameworkMethod) {
                     if (LOGGER.isDebugEnabled()) {
                         try {
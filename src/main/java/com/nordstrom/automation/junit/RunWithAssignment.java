@@ -0,0 +1,196 @@
+package com.nordstrom.automation.junit;
+
+import static com.nordstrom.automation.junit.LifecycleHooks.getConfig;
+import static com.nordstrom.automation.junit.LifecycleHooks.toMapKey;
+
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+import org.junit.experimental.theories.Theories.TheoryAnchor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.nordstrom.automation.junit.JUnitConfig.JUnitSettings;
+import com.nordstrom.common.base.UncheckedThrow;
+
+import net.bytebuddy.implementation.bind.annotation.SuperCall;
+import net.bytebuddy.implementation.bind.annotation.This;
+
+/**
+ * This class declares an interceptor for the {@link TheoryAnchor#runWithAssignment runWithAssignment} method.
+ * <p>
+ * If the {@link JUnitSettings#THEORIES_PARALLEL THEORIES_PARALLEL} setting is enabled, the complete assignments
+ * (permutations) of each theory are dispatched to the shared parallel pool by the interceptor declared in the
+ * {@link RunWithCompleteAssignment} class. The outermost invocation of {@code runWithAssignment} for each theory
+ * waits for its permutations to complete, so the theory anchor evaluates the outcome of all permutations as it does
+ * for sequential execution.
+ */
+public class RunWithAssignment {
+
+    private static final ThreadLocal<ConcurrentMap<String, DepthGauge>> METHOD_DEPTH;
+    private static final Function<String, DepthGauge> NEW_INSTANCE;
+    private static final Map<String, Queue<Permutation>> ANCHOR_TO_PERMUTATIONS = new ConcurrentHashMap<>();
+    private static final Logger LOGGER = LoggerFactory.getLogger(RunWithAssignment.class);
+
+    static {
+        METHOD_DEPTH = new ThreadLocal<ConcurrentMap<String, DepthGauge>>() {
+            @Override
+            protected ConcurrentMap<String, DepthGauge> initialValue() {
+                return new ConcurrentHashMap<>();
+            }
+        };
+        NEW_INSTANCE = new Function<String, DepthGauge>() {
+            @Override
+            public DepthGauge apply(String input) {
+                return new DepthGauge();
+            }
+        };
+    }
+
+    /**
+     * Default constructor
+     */
+    public RunWithAssignment() { }
+
+    /**
+     * Interceptor for the {@link TheoryAnchor#runWithAssignment runWithAssignment} method.
+     *
+     * @param anchor current {@code TheoryAnchor} statement
+     * @param proxy callable proxy for the intercepted method
+     * @throws Exception {@code anything} (exception thrown by the intercepted method)
+     */
+    public static void intercept(@This final TheoryAnchor anchor, @SuperCall final Callable<?> proxy)
+            throws Exception {
+
+        String anchorKey = toMapKey(anchor);
+        DepthGauge depthGauge = LifecycleHooks.computeIfAbsent(METHOD_DEPTH.get(), anchorKey, NEW_INSTANCE);
+
+        // if starting outermost assignment of parallel theory
+        if ((0 == depthGauge.increaseDepth()) && getConfig().getBoolean(JUnitSettings.THEORIES_PARALLEL.key(), false)) {
+            synchronizeInvalidParameters(anchor);
+            ANCHOR_TO_PERMUTATIONS.put(anchorKey, new ConcurrentLinkedQueue<Permutation>());
+        }
+
+        try {
+            LifecycleHooks.callProxy(proxy);
+        } finally {
+            if (0 == depthGauge.decreaseDepth()) {
+                DepthGauge.release(METHOD_DEPTH, anchorKey);
+                Queue<Permutation> permutations = ANCHOR_TO_PERMUTATIONS.remove(anchorKey);
+                // if theory permutations were dispatched, wait for them
+                if (permutations != null) {
+                    awaitPermutations(permutations);
+                }
+            }
+        }
+    }
+
+    /**
+     * Dispatch the specified theory permutation to the shared parallel pool, if parallel execution is active for the
+     * indicated theory anchor.
+     *
+     * @param anchor current {@code TheoryAnchor} statement
+     * @param runner theories runner
+     * @param permutation permutation to be run
+     * @return {@code true} if the permutation was dispatched; {@code false} if it should be run in the calling thread
+     */
+    static boolean dispatch(final TheoryAnchor anchor, final Object runner, final Callable<?> permutation) {
+        Queue<Permutation> permutations = ANCHOR_TO_PERMUTATIONS.get(toMapKey(anchor));
+        if (permutations == null) return false;
+        Permutation task = new Permutation(permutation);
+        ParallelScheduler.submit(runner, task);
+        permutations.add(task);
+        return true;
+    }
+
+    /**
+     * Wait for the specified theory permutations to complete. If any permutations failed, the exception thrown by the
+     * first of these (in dispatch order) is re-thrown.
+     * <p>
+     * <b>NOTE</b>: Permutations are awaited via {@link ForkJoinPool#managedBlock} instead of being joined, because a
+     * joining thread of the shared pool may run other queued tasks while it waits. If the theory holds resource locks,
+     * such a task could block on these locks in the thread that holds them.
+     *
+     * @param permutations dispatched theory permutations
+     */
+    private static void awaitPermutations(final Queue<Permutation> permutations) {
+        Throwable thrown = null;
+        for (Permutation permutation : permutations) {
+            try {
+                ForkJoinPool.managedBlock(permutation);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw UncheckedThrow.throwUnchecked(e);
+            }
+            if (thrown == null) {
+                thrown = permutation.thrown;
+            }
+        }
+        if (thrown != null) {
+            throw UncheckedThrow.throwUnchecked(thrown);
+        }
+    }
+
+    /**
+     * Replace the list of invalid parameters of the specified theory anchor with a synchronized list, which enables
+     * permutations to record assumption violations concurrently.
+     *
+     * @param anchor current {@code TheoryAnchor} statement
+     */
+    @SuppressWarnings("unchecked")
+    private static void synchronizeInvalidParameters(final TheoryAnchor anchor) {
+        try {
+            Field field = TheoryAnchor.class.getDeclaredField("fInvalidParameters");
+            field.setAccessible(true);
+            field.set(anchor, Collections.synchronizedList((List<Object>) field.get(anchor)));
+        } catch (NoSuchFieldException | IllegalAccessException | SecurityException e) {
+            LOGGER.warn("Unable to synchronize invalid parameters of theory anchor", e);
+        }
+    }
+
+    /**
+     * This class encapsulates a dispatched theory permutation and its outcome. It also enables the thread that awaits
+     * the permutation to block without running other tasks of the shared pool.
+     */
+    private static class Permutation implements Runnable, ForkJoinPool.ManagedBlocker {
+        private final Callable<?> callable;
+        private final CountDownLatch done = new CountDownLatch(1);
+        private volatile Throwable thrown;
+
+        Permutation(final Callable<?> callable) {
+            this.callable = callable;
+        }
+
+        @Override
+        public void run() {
+            try {
+                callable.call();
+            } catch (Throwable t) {
+                thrown = t;
+            } finally {
+                done.countDown();
+            }
+        }
+
+        @Override
+        public boolean block() throws InterruptedException {
+            done.await();
+            return true;
+        }
+
+        @Override
+        public boolean isReleasable() {
+            return done.getCount() == 0;
+        }
+    }
+}
@@ -32,6 +32,9 @@ public class RunWithCompleteAssignment {
      * class to attach the class runner to the thread and create a new atomic test for the target
      * method. The actual method block statement is retrieved from <b>MethodBlock</b> and executed,
      * publishing a complete set of test lifecycle events.
+     * <p>
+     * If parallel execution of theory permutations is active (see {@link RunWithAssignment}), the permutation is
+     * dispatched to the shared parallel pool instead of being run in the calling thread.
      * 
      * @param anchor current {@code TheoryAnchor} statement
      * @param proxy callable proxy for the intercepted method
@@ -41,6 +44,27 @@ public class RunWithCompleteAssignment {
     public static void intercept(@This final TheoryAnchor anchor, @SuperCall final Callable<?> proxy,
             @Argument(0) final Assignments assignments) throws Exception {
         
+        Callable<Void> permutation = new Callable<Void>() {
+            @Override
+            public Void call() throws Exception {
+                runPermutation(anchor, proxy);
+                return null;
+            }
+        };
+        
+        // if dispatched to parallel pool, done
+        if (RunWithAssignment.dispatch(anchor, Run.getThreadRunner(), permutation)) return;
+        permutation.call();
+    }
+    
+    /**
+     * Run the theory permutation of the specified anchor as an atomic test.
+     * 
+     * @param anchor current {@code TheoryAnchor} statement
+     * @param proxy callable proxy for the intercepted method
+     * @throws Exception {@code anything} (exception thrown by the intercepted method)
+     */
+    private static void runPermutation(final TheoryAnchor anchor, final Callable<?> proxy) throws Exception {
         // grab the current thread runner
         Object parentRunner = Run.getThreadRunner();
         
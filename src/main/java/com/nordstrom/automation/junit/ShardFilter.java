@@ -0,0 +1,203 @@
+package com.nordstrom.automation.junit;
+
+import static com.nordstrom.automation.junit.LifecycleHooks.getConfig;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.runner.Description;
+import org.junit.runner.manipulation.Filter;
+import org.junit.runner.manipulation.NoTestsRemainException;
+import org.junit.runners.ParentRunner;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.nordstrom.automation.junit.JUnitConfig.JUnitSettings;
+
+/**
+ * This class implements the {@link Filter} that restricts each run to the tests assigned to one shard of the suite,
+ * which enables a suite to be split across multiple JVM forks or CI nodes. The shard of the current run is specified by
+ * the {@link JUnitSettings#SHARD_INDEX SHARD_INDEX} and {@link JUnitSettings#SHARD_COUNT SHARD_COUNT} settings, and
+ * the unit of assignment (<b>CLASSES</b> or <b>METHODS</b>) is specified by {@link JUnitSettings#SHARD_UNIT SHARD_UNIT}.
+ * <p>
+ * All units in the duration history (see {@link DurationHistory}) are assigned longest-first, each to the shard with
+ * the least total duration so far. Units with no recorded durations are assigned by a stable hash of their names.
+ * Because assignments are computed from the entire history instead of the tests of the current run, they don't depend
+ * on how the suite is divided into runs (e.g. - one root runner per class). Given the same history, every shard
+ * computes the same assignments.
+ * <p>
+ * <b>NOTE</b>: The filter is applied to the root runner as it starts, so children that aren't owned by the current
+ * shard are never instantiated. Each shard must run the entire suite.
+ */
+class ShardFilter extends Filter {
+
+    private final int index;
+    private final int count;
+    private final boolean byMethod;
+    private final Map<String, Integer> assigned;
+
+    private static volatile Assignment assignment;
+    private static final Logger LOGGER = LoggerFactory.getLogger(ShardFilter.class);
+
+    /**
+     * Constructor: Create a filter for the specified shard.
+     *
+     * @param index shard index (0-based)
+     * @param count shard count
+     * @param byMethod {@code true} to assign methods to shards; {@code false} to assign classes
+     */
+    ShardFilter(final int index, final int count, final boolean byMethod) {
+        this.index = index;
+        this.count = count;
+        this.byMethod = byMethod;
+        this.assigned = getAssignment(count, byMethod);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean shouldRun(Description description) {
+        if (description.isTest()) {
+            return getShard(getUnit(description)) == index;
+        }
+        for (Description child : description.getChildren()) {
+            if (shouldRun(child)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String describe() {
+        return "shard " + (index + 1) + " of " + count;
+    }
+
+    /**
+     * Restrict the specified root runner to the tests assigned to the configured shard, if sharding is enabled.
+     *
+     * @param runner JUnit root runner
+     */
+    static void install(final Object runner) {
+        if (!(runner instanceof ParentRunner)) return;
+        int count = getConfig().getInt(JUnitSettings.SHARD_COUNT.key(), 1);
+        if (count < 2) return;
+
+        int index = getConfig().getInt(JUnitSettings.SHARD_INDEX.key(), -1);
+        if ((index < 0) || (index >= count)) {
+            LOGGER.warn("Shard index {} is out of range for shard count {}; sharding disabled", index, count);
+            return;
+        }
+
+        String unit = getConfig().getString(JUnitSettings.SHARD_UNIT.key(), "CLASSES");
+        boolean byMethod = "METHODS".equalsIgnoreCase(unit.trim());
+        ShardFilter filter = new ShardFilter(index, count, byMethod);
+        try {
+            ((ParentRunner<?>) runner).filter(filter);
+        } catch (NoTestsRemainException e) {
+            LOGGER.info("No tests were assigned to {}", filter.describe());
+        }
+    }
+
+    /**
+     * Get the unit of assignment for the specified test.
+     *
+     * @param description test description
+     * @return class name or test identifier
+     */
+    private String getUnit(final Description description) {
+        String className = String.valueOf(description.getClassName());
+        if (!byMethod) return className;
+        // use recorded identifier, so parameter sets of each method are kept together
+        String testId = DurationSorter.getHistoryId(description);
+        return (testId != null) ? testId : className + "#" + description.getMethodName();
+    }
+
+    /**
+     * Get the shard to which the specified unit is assigned.
+     *
+     * @param unit class name or test identifier
+     * @return shard index
+     */
+    private int getShard(final String unit) {
+        Integer shard = assigned.get(unit);
+        return (shard != null) ? shard : (unit.hashCode() & Integer.MAX_VALUE) % count;
+    }
+
+    /**
+     * Get the assignments of the units in the duration history to shards.
+     *
+     * @param count shard count
+     * @param byMethod {@code true} to assign methods to shards; {@code false} to assign classes
+     * @return map of units to shard indexes
+     */
+    private static Map<String, Integer> getAssignment(final int count, final boolean byMethod) {
+        Map<String, Long> estimates = DurationHistory.getLoadedEstimates();
+        Assignment current = assignment;
+        // if assignments are stale, compute them
+        if ((current == null) || (current.estimates != estimates) || (current.count != count)
+                || (current.byMethod != byMethod)) {
+            current = new Assignment(estimates, count, byMethod);
+            assignment = current;
+        }
+        return current.shards;
+    }
+
+    /**
+     * This class holds the assignments of the units in the duration history to shards.
+     */
+    private static class Assignment {
+        private final Map<String, Long> estimates;
+        private final int count;
+        private final boolean byMethod;
+        private final Map<String, Integer> shards = new HashMap<>();
+
+        /**
+         * Constructor: Assign the units with the specified estimated durations to shards.
+         *
+         * @param estimates map of test identifiers and class names to estimated durations
+         * @param count shard count
+         * @param byMethod {@code true} to assign methods to shards; {@code false} to assign classes
+         */
+        Assignment(final Map<String, Long> estimates, final int count, final boolean byMethod) {
+            this.estimates = estimates;
+            this.count = count;
+            this.byMethod = byMethod;
+
+            // collect units of the specified type (by name, for stable ordering)
+            Map<String, Long> known = new TreeMap<>();
+            for (Map.Entry<String, Long> entry : estimates.entrySet()) {
+                if ((entry.getKey().indexOf('#') >= 0) == byMethod) {
+                    known.put(entry.getKey(), entry.getValue());
+                }
+            }
+
+            // sort known units longest-first (stable by name)
+            List<Map.Entry<String, Long>> entries = new ArrayList<>(known.entrySet());
+            Collections.sort(entries, new Comparator<Map.Entry<String, Long>>() {
+                @Override
+                public int compare(Map.Entry<String, Long> o1, Map.Entry<String, Long> o2) {
+                    return Long.compare(o2.getValue(), o1.getValue());
+                }
+            });
+
+            long[] loads = new long[count];
+            for (Map.Entry<String, Long> entry : entries) {
+                // assign to least-loaded shard (lowest index on ties)
+                int target = 0;
+                for (int i = 1; i < count; i++) {
+                    if (loads[i] < loads[target]) target = i;
+                }
+                loads[target] += entry.getValue();
+                shards.put(entry.getKey(), target);
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.nordstrom.automation.junit;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * This is the base class for artifact capture providers that produce large artifacts (e.g. - heap histograms, HAR
+ * files, or video). Instead of returning the entire artifact as a byte array, these providers write the artifact
+ * directly to the output stream supplied by {@link ArtifactCollector}, which is opened on the target file. This
+ * avoids buffering the complete artifact in heap.
+ * <p>
+ * <b>NOTE</b>: Streaming artifacts are written in the thread that captures them, even if asynchronous artifact
+ * writes are enabled.
+ */
+public abstract class StreamingArtifactType extends ArtifactType {
+
+    /**
+     * Default constructor
+     */
+    public StreamingArtifactType() { }
+
+    /**
+     * Capture an artifact from the specified context, writing it to the specified output stream.
+     *
+     * @param instance JUnit test class instance
+     * @param reason impetus for capture request; may be 'null'
+     * @param out output stream to which the artifact is written
+     * @return {@code true} if an artifact was written; if capture fails, {@code false} is returned
+     * @throws IOException if an I/O error occurs while writing the artifact
+     */
+    public abstract boolean writeArtifact(Object instance, Throwable reason, OutputStream out) throws IOException;
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * <b>NOTE</b>: This implementation buffers the output of {@link #writeArtifact(Object, Throwable, OutputStream)}
+     * for clients of the byte array API.
+     */
+    @Override
+    public byte[] getArtifact(Object instance, Throwable reason) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            if (writeArtifact(instance, reason, out)) {
+                return out.toByteArray();
+            }
+        } catch (IOException e) {
+            if (getLogger() != null) {
+                getLogger().warn("I/O error capturing artifact", e);
+            }
+        }
+        return new byte[0];
+    }
+
+}
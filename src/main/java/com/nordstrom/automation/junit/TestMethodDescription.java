@@ -2,6 +2,7 @@ package com.nordstrom.automation.junit;
 
 import java.io.Serializable;
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.List;
 import java.util.Map;
@@ -11,6 +12,8 @@ import java.util.concurrent.ConcurrentHashMap;
 import org.junit.Test;
 import org.junit.runner.Description;
 import org.junit.runners.model.FrameworkMethod;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import junitparams.Parameters;
 import junitparams.internal.TestMethod;
@@ -23,6 +26,19 @@ import net.bytebuddy.implementation.bind.annotation.This;
 public class TestMethodDescription {
     
     private static final Map<Integer, Description> TESTMETHOD_TO_DESCRIPTION = new ConcurrentHashMap<>();
+    private static final Field ANNOTATIONS;
+    private static final Logger LOGGER = LoggerFactory.getLogger(TestMethodDescription.class);
+    
+    static {
+        Field annotations = null;
+        try {
+            annotations = Description.class.getDeclaredField("fAnnotations");
+            annotations.setAccessible(true);
+        } catch (NoSuchFieldException | SecurityException e) {
+            LOGGER.debug("Unable to access annotations of descriptions; parameter set descriptions will be copied", e);
+        }
+        ANNOTATIONS = annotations;
+    }
 
     /**
      * Default constructor
@@ -50,6 +66,9 @@ public class TestMethodDescription {
     
     /**
      * Compute the description for the target test method.
+     * <p>
+     * <b>NOTE</b>: The description of each parameter set is annotated in place (sharing a single annotations array)
+     * rather than being copied, so methods with large numbers of parameter sets don't allocate a second tree.
      * 
      * @param testMethod target JUnitParams {@link TestMethod} object
      * @param proxy callable proxy for the intercepted method
@@ -85,13 +104,32 @@ public class TestMethodDescription {
         Description parent = Description.createTestDescription(method.getDeclaringClass(), method.getName(), parentAnnotations);
         
         for (Description description : children) {
-            String displayName = description.getDisplayName();
-            Serializable uniqueId = ((UniqueIdAccessor) description).getUniqueId();
-            parent.addChild(Description.createSuiteDescription(displayName, uniqueId, childAnnotations));
+            parent.addChild(annotate(description, childAnnotations));
         }
         
         return parent;
     }
+    
+    /**
+     * Apply the specified annotations to the indicated parameter set description.
+     * 
+     * @param description parameter set description
+     * @param annotations annotations to apply
+     * @return annotated description (the original, if annotated in place; otherwise a copy)
+     */
+    private static Description annotate(final Description description, final Annotation[] annotations) {
+        if (ANNOTATIONS != null) {
+            try {
+                ANNOTATIONS.set(description, annotations);
+                return description;
+            } catch (IllegalAccessException | IllegalArgumentException e) {
+                // fall through to copy
+            }
+        }
+        String displayName = description.getDisplayName();
+        Serializable uniqueId = ((UniqueIdAccessor) description).getUniqueId();
+        return Description.createSuiteDescription(displayName, uniqueId, annotations);
+    }
 
     /**
      * Release the description that was cached for the specified method.
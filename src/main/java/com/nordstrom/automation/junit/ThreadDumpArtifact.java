@@ -0,0 +1,186 @@
+package com.nordstrom.automation.junit;
+
+import java.lang.management.LockInfo;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MonitorInfo;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.junit.runners.model.MultipleFailureException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class implements the artifact type for thread dumps captured by the shared timeout watchdog. When a test is
+ * terminated by the {@link TimeoutWatchdog watchdog}, a full thread dump (optionally preceded by stack samples of the
+ * test thread) is captured and associated with the resulting {@link org.junit.runners.model.TestTimedOutException
+ * TestTimedOutException}. This artifact type retrieves the thread dump for that exception.
+ */
+public class ThreadDumpArtifact extends ArtifactType {
+
+    private static final String ARTIFACT_PATH = "thread-dumps";
+    private static final String EXTENSION = "txt";
+    private static final Map<Throwable, byte[]> THREAD_DUMPS =
+                    Collections.synchronizedMap(new WeakHashMap<Throwable, byte[]>());
+    private static final Logger LOGGER = LoggerFactory.getLogger(ThreadDumpArtifact.class);
+
+    /**
+     * Default constructor
+     */
+    public ThreadDumpArtifact() { }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean canGetArtifact(Object instance) {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public byte[] getArtifact(Object instance, Throwable reason) {
+        if (reason instanceof MultipleFailureException) {
+            for (Throwable failure : ((MultipleFailureException) reason).getFailures()) {
+                byte[] artifact = THREAD_DUMPS.remove(failure);
+                if (artifact != null) return artifact;
+            }
+        } else if (reason != null) {
+            byte[] artifact = THREAD_DUMPS.remove(reason);
+            if (artifact != null) return artifact;
+        }
+        return new byte[0];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Path getArtifactPath(Object instance) {
+        return super.getArtifactPath(instance).resolve(ARTIFACT_PATH);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getArtifactExtension() {
+        return EXTENSION;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Logger getLogger() {
+        return LOGGER;
+    }
+
+    /**
+     * Associate the specified thread dump with the indicated timeout exception.
+     *
+     * @param timedOut timeout exception
+     * @param threadDump thread dump text
+     */
+    static void attach(Throwable timedOut, String threadDump) {
+        THREAD_DUMPS.put(timedOut, threadDump.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Capture a full thread dump, including lock information and deadlocked threads.
+     *
+     * @param testThread thread of the expired test
+     * @param timeout timeout interval in milliseconds
+     * @param samples stack samples of the test thread captured before expiry (may be empty)
+     * @return thread dump text
+     */
+    static String capture(Thread testThread, long timeout, List<StackTraceElement[]> samples) {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        StringBuilder builder = new StringBuilder();
+        builder.append("Thread dump captured at expiry of ").append(timeout).append(" ms timeout of thread \"")
+                .append(testThread.getName()).append("\"\n\n");
+
+        long[] deadlocked = threadMXBean.isSynchronizerUsageSupported()
+                ? threadMXBean.findDeadlockedThreads() : threadMXBean.findMonitorDeadlockedThreads();
+        if (deadlocked != null) {
+            builder.append("Deadlock detected involving ").append(deadlocked.length).append(" threads:\n");
+            for (ThreadInfo info : threadMXBean.getThreadInfo(deadlocked)) {
+                if (info != null) {
+                    builder.append("  \"").append(info.getThreadName()).append("\" waiting on ")
+                            .append(info.getLockName()).append(" held by \"")
+                            .append(info.getLockOwnerName()).append("\"\n");
+                }
+            }
+            builder.append('\n');
+        }
+
+        ThreadInfo[] threadInfos = threadMXBean.dumpAllThreads(
+                threadMXBean.isObjectMonitorUsageSupported(), threadMXBean.isSynchronizerUsageSupported());
+        for (ThreadInfo info : threadInfos) {
+            appendThreadInfo(builder, info);
+        }
+
+        if (!samples.isEmpty()) {
+            builder.append("Stack samples of thread \"").append(testThread.getName()).append("\" before expiry:\n\n");
+            int index = 0;
+            for (StackTraceElement[] sample : samples) {
+                builder.append("--- sample ").append(++index).append(" of ").append(samples.size()).append(" ---\n");
+                for (StackTraceElement element : sample) {
+                    builder.append("\tat ").append(element).append('\n');
+                }
+                builder.append('\n');
+            }
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * Append the full details of the specified thread to the indicated builder.
+     * <p>
+     * <b>NOTE</b>: Unlike {@link ThreadInfo#toString()}, this method doesn't truncate the stack trace.
+     *
+     * @param builder string builder
+     * @param info thread information
+     */
+    private static void appendThreadInfo(StringBuilder builder, ThreadInfo info) {
+        builder.append('"').append(info.getThreadName()).append("\" Id=").append(info.getThreadId())
+                .append(' ').append(info.getThreadState());
+        if (info.getLockName() != null) {
+            builder.append(" on ").append(info.getLockName());
+        }
+        if (info.getLockOwnerName() != null) {
+            builder.append(" owned by \"").append(info.getLockOwnerName())
+                    .append("\" Id=").append(info.getLockOwnerId());
+        }
+        builder.append('\n');
+
+        StackTraceElement[] stackTrace = info.getStackTrace();
+        MonitorInfo[] monitors = info.getLockedMonitors();
+        for (int i = 0; i < stackTrace.length; i++) {
+            builder.append("\tat ").append(stackTrace[i]).append('\n');
+            for (MonitorInfo monitor : monitors) {
+                if (monitor.getLockedStackDepth() == i) {
+                    builder.append("\t-  locked ").append(monitor).append('\n');
+                }
+            }
+        }
+
+        LockInfo[] synchronizers = info.getLockedSynchronizers();
+        if (synchronizers.length > 0) {
+            builder.append("\n\tLocked synchronizers:\n");
+            for (LockInfo synchronizer : synchronizers) {
+                builder.append("\t- ").append(synchronizer).append('\n');
+            }
+        }
+        builder.append('\n');
+    }
+}
@@ -0,0 +1,20 @@
+package com.nordstrom.automation.junit;
+
+/**
+ * This class implements the artifact collector for thread dumps captured by the shared timeout watchdog. When thread
+ * dump capture is enabled, <b>JUnit Foundation</b> attaches an instance of this collector to each test automatically.
+ *
+ * @see ThreadDumpArtifact
+ */
+public class ThreadDumpCollector extends ArtifactCollector<ThreadDumpArtifact> {
+
+    /**
+     * Constructor for <b>ThreadDumpCollector</b> instances.
+     *
+     * @param instance {@code JUnit} test class instance
+     */
+    public ThreadDumpCollector(Object instance) {
+        super(instance, new ThreadDumpArtifact());
+    }
+
+}
@@ -1,11 +1,11 @@
 package com.nordstrom.automation.junit;
 
 import java.lang.annotation.Annotation;
-import java.util.Arrays;
-import java.util.Collections;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 import java.util.List;
-import java.util.ListIterator;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 import org.junit.Rule;
@@ -22,9 +22,31 @@ import com.nordstrom.common.base.UncheckedThrow;
 
 class TimeoutUtils {
     
+    private static final Map<String, Test> TEST_TIMEOUTS = new ConcurrentHashMap<>();
+    private static final Map<String, RuleTimeout> RULE_TIMEOUTS = new ConcurrentHashMap<>();
+    private static final Method GET_TIMEOUT;
+    private static volatile TimeoutSettings settings;
+    
+    static {
+        try {
+            GET_TIMEOUT = Timeout.class.getDeclaredMethod("getTimeout", TimeUnit.class);
+            GET_TIMEOUT.setAccessible(true);
+        } catch (NoSuchMethodException | SecurityException e) {
+            throw UncheckedThrow.throwUnchecked(e);
+        }
+    }
+    
+    private TimeoutUtils() {
+        throw new AssertionError("TimeoutUtils is a static utility class that cannot be instantiated");
+    }
+    
     /**
      * If configured for default test timeout, apply the timeout value to the framework method associated
      * with the underlying test runner, if it doesn't already specify a longer timeout interval.
+     * <p>
+     * <b>NOTE</b>: The effective {@link Test &#64;Test} annotation is resolved once per test class and method, and
+     * cached until the start of the next run. The interval of a {@link Timeout} rule field is assumed to be the same
+     * for every instance of the test class.
      * 
      * @param runner underlying test runner
      * @param method target test method
@@ -39,16 +61,41 @@ class TimeoutUtils {
         // exit if annotation is absent 
         if (annotation == null) return;
         
-        long uberTimeout = -1;
-        // if default timeout rule interval is defined
-        if (LifecycleHooks.getConfig().containsKey(JUnitSettings.TIMEOUT_RULE.key())) {
-            // get default timeout rule interval
-            uberTimeout = LifecycleHooks.getConfig().getLong(JUnitSettings.TIMEOUT_RULE.key());
-        }
-
-        long ruleTimeout = -1;
         // get the test class of the specified runner
         TestClass testClass = LifecycleHooks.getTestClassOf(runner);
+        String cacheKey = testClass.getName() + "#" + identity.getMethod();
+        
+        // get cached effective annotation
+        Test effective = TEST_TIMEOUTS.get(cacheKey);
+        // if not yet resolved
+        if (effective == null) {
+            effective = resolveTestTimeout(testClass, identity, target);
+            TEST_TIMEOUTS.put(cacheKey, effective);
+        }
+        
+        // if effective annotation isn't installed
+        if (annotation != effective) {
+            // install effective annotation
+            GetAnnotation.injectProxy(identity, effective);
+        }
+    }
+    
+    /**
+     * Resolve the effective {@link Test &#64;Test} annotation for the specified test method.
+     * 
+     * @param testClass test class of the underlying test runner
+     * @param identity target test method
+     * @param target test class instance
+     * @return {@link MutableTest} proxy if the timeout must be altered; otherwise, the declared annotation
+     */
+    private static Test resolveTestTimeout(final TestClass testClass, final FrameworkMethod identity,
+            final Object target) {
+        
+        // get declared @Test annotation
+        Test declared = identity.getMethod().getAnnotation(Test.class);
+        TimeoutSettings config = getSettings();
+        
+        long ruleTimeout = -1;
         Map<Class<? extends Annotation>, List<FrameworkField>> fieldsMap =
                 ((FieldsForAnnotationsAccessor) testClass).getFieldsForAnnotations();
         
@@ -57,17 +104,13 @@ class TimeoutUtils {
         
         // if @Rule fields exist
         if (ruleFields != null) {
-            // get rule field iterator
-            ListIterator<FrameworkField> iterator = ruleFields.listIterator();
             // iterate over rule fields
-            while (iterator.hasNext()) {
-                // get current rule field
-                FrameworkField ruleField = iterator.next();
+            for (FrameworkField ruleField : ruleFields) {
                 // if this is a Timeout rule
                 if (Timeout.class.isAssignableFrom(ruleField.getType())) {
                     try {
                         // extract Timeout rule interval
-                        ruleTimeout = LifecycleHooks.invoke(ruleField.get(target), "getTimeout", TimeUnit.MILLISECONDS);
+                        ruleTimeout = getTimeout((Timeout) ruleField.get(target));
                         // exit iteration
                         break;
                     } catch (IllegalArgumentException | IllegalAccessException e) {
@@ -78,30 +121,38 @@ class TimeoutUtils {
         }
         
         // if timeout disabled by local or global rule
-        if ((uberTimeout == 0) || (ruleTimeout == 0)) {
+        if ((config.uberTimeout == 0) || (ruleTimeout == 0)) {
             // disable timeout of @Test annotation
-            MutableTest.proxyFor(identity, 0);
-        } else {
-            long testTimeout = -1;
-            // if default test timeout is defined
-            if (LifecycleHooks.getConfig().containsKey(JUnitSettings.TEST_TIMEOUT.key())) {
-                // get default test timeout
-                testTimeout = LifecycleHooks.getConfig().getLong(JUnitSettings.TEST_TIMEOUT.key());
-            }
-            
-            // extract value of timeout parameter
-            long metaTimeout = annotation.timeout();
-            
-            // if default timeout is longer
-            if (testTimeout > metaTimeout) {
-                // override value of timeout parameter
-                MutableTest.proxyFor(identity, testTimeout);
+            return MutableTest.proxyFor(declared, 0);
+        }
+        
+        long testTimeout = config.testTimeout;
+        // if adaptive timeouts are enabled
+        if (config.adaptive) {
+            // get timeout derived from duration history
+            long adaptiveTimeout = getAdaptiveTimeout(testClass.getName(), identity, testTimeout);
+            // if history exists
+            if (adaptiveTimeout > 0) {
+                // supersede default test timeout
+                testTimeout = adaptiveTimeout;
             }
         }
+        
+        // if default timeout is longer than timeout parameter
+        if (testTimeout > declared.timeout()) {
+            // override value of timeout parameter
+            return MutableTest.proxyFor(declared, testTimeout);
+        }
+        
+        return declared;
     }
 
     /**
      * If configured for rule-based global timeout, apply timeout to specified test rules list.
+     * <p>
+     * <b>NOTE</b>: The effective rule timeout is resolved once per test class and method, and cached until the start
+     * of the next run. The interval of a {@link Timeout} rule field is assumed to be the same for every instance of
+     * the test class.
      * 
      * @param runner underlying test runner
      * @param method target test method
@@ -110,52 +161,150 @@ class TimeoutUtils {
     static void applyRuleTimeout(final Object runner, final FrameworkMethod method, final List<TestRule> testRules) {
         // get "identity" method
         FrameworkMethod identity = getIdentity(runner, method);
-        // get @Test annotation
-        Test annotation = (identity != null) ? identity.getAnnotation(Test.class) : null;
-        // get test method timeout interval
-        long metaTimeout = (annotation != null) ? annotation.timeout() : 0L;
-        
-        long uberTimeout = -1;
-        // if default timeout rule interval is defined
-        if (LifecycleHooks.getConfig().containsKey(JUnitSettings.TIMEOUT_RULE.key())) {
-            // get default timeout rule interval
-            uberTimeout = LifecycleHooks.getConfig().getLong(JUnitSettings.TIMEOUT_RULE.key());
-        }
         
         int ruleIndex = -1;
-        long ruleTimeout = -1;
-        
         // iterate over active test rules collection
         for (int i = 0; i < testRules.size(); i++) {
             // get current test rule
             TestRule testRule = testRules.get(i);
-            // if this is a Timeout rule
-            if (testRule instanceof Timeout) {
+            // if this is a Timeout rule (or watchdog applied by a prior pass)
+            if ((testRule instanceof Timeout) || (testRule instanceof TimeoutWatchdog)) {
                 // save index
                 ruleIndex = i;
-                // extract Timeout rule interval
-                ruleTimeout = LifecycleHooks.invoke(testRule, "getTimeout", TimeUnit.MILLISECONDS);
                 break;
             }
         }
         
-        boolean disableTimeout = ((uberTimeout == 0) || (ruleTimeout == 0));
-        long timeout = disableTimeout ? 0 : Collections.max(Arrays.asList(metaTimeout, uberTimeout, ruleTimeout));
+        String cacheKey = LifecycleHooks.getTestClassOf(runner).getName() + "#"
+                + ((identity != null) ? identity.getMethod() : null);
+        
+        // get cached rule timeout
+        RuleTimeout resolved = RULE_TIMEOUTS.get(cacheKey);
+        // if not yet resolved
+        if (resolved == null) {
+            resolved = new RuleTimeout(identity, (ruleIndex != -1) ? testRules.get(ruleIndex) : null);
+            RULE_TIMEOUTS.put(cacheKey, resolved);
+        }
+        
+        long timeout = resolved.timeout;
         
-        // if Timeout found
-        if (ruleIndex != -1) {
+        // if enforced by shared watchdog
+        if (resolved.watchdog) {
+            // if Timeout found
+            if (ruleIndex != -1) {
+                // if timeout is active
+                if (timeout > 0) {
+                    // replace existing rule with watchdog of interval
+                    testRules.set(ruleIndex, new TimeoutWatchdog(timeout));
+                } else {
+                    // remove disabled rule
+                    testRules.remove(ruleIndex);
+                }
+            // otherwise, if Timeout specified and active
+            } else if ((resolved.uberTimeout != -1) && (timeout > 0)) {
+                // add watchdog of longest interval
+                testRules.add(new TimeoutWatchdog(timeout));
+            }
+        // otherwise, if Timeout found
+        } else if (ruleIndex != -1) {
             // if rule interval differs
-            if (ruleTimeout != timeout) {
+            if (resolved.ruleTimeout != timeout) {
                 // replace existing rule with Timeout of interval
                 testRules.set(ruleIndex, Timeout.millis(timeout));
             }
         // otherwise, if Timeout specified
-        } else if (uberTimeout != -1) {
+        } else if (resolved.uberTimeout != -1) {
             // add Timeout of longest interval
             testRules.add(Timeout.millis(timeout));
         }
     }
     
+    /**
+     * Get the interval of the specified {@link Timeout} rule.
+     * 
+     * @param timeout {@link Timeout} rule
+     * @return timeout interval in milliseconds
+     */
+    private static long getTimeout(final Timeout timeout) {
+        try {
+            return (Long) GET_TIMEOUT.invoke(timeout, TimeUnit.MILLISECONDS);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw UncheckedThrow.throwUnchecked(e);
+        }
+    }
+    
+    /**
+     * Get the timeout settings for the current run.
+     * 
+     * @return {@link TimeoutSettings} object
+     */
+    private static TimeoutSettings getSettings() {
+        TimeoutSettings current = settings;
+        if (current == null) {
+            current = new TimeoutSettings(LifecycleHooks.getConfig());
+            settings = current;
+        }
+        return current;
+    }
+    
+    /**
+     * Discard cached timeout settings and resolved annotations. This is invoked at the start of each run, so that
+     * configuration changes between runs take effect.
+     */
+    static void resetCache() {
+        settings = null;
+        TEST_TIMEOUTS.clear();
+        RULE_TIMEOUTS.clear();
+    }
+    
+    /**
+     * If configured for thread dump capture, attach a {@link ThreadDumpCollector} to the specified test rules list.
+     * 
+     * @param target test class instance
+     * @param testRules test rules of associated test class
+     */
+    static void applyThreadDumpCapture(final Object target, final List<TestRule> testRules) {
+        // if thread dumps are captured on watchdog expiry
+        if (TimeoutWatchdog.isThreadDumpEnabled()) {
+            // if collector already attached by a prior pass, exit
+            for (TestRule testRule : testRules) {
+                if (testRule instanceof ThreadDumpCollector) return;
+            }
+            // add collector as outermost rule
+            testRules.add(new ThreadDumpCollector(target));
+        }
+    }
+    
+    /**
+     * Get the adaptive timeout interval for the specified test method, derived from its recorded durations.
+     * <p>
+     * The interval is the 99th-percentile duration multiplied by the {@link JUnitSettings#TIMEOUT_FACTOR factor},
+     * bounded by the configured {@link JUnitSettings#TIMEOUT_FLOOR floor} and
+     * {@link JUnitSettings#TIMEOUT_CEILING ceiling}.
+     * 
+     * @param className name of the test class
+     * @param identity test method
+     * @param testTimeout default test timeout interval (used as ceiling if none is configured)
+     * @return adaptive timeout interval in milliseconds; -1 if insufficient duration history exists
+     */
+    static long getAdaptiveTimeout(final String className, final FrameworkMethod identity, final long testTimeout) {
+        long p99 = DurationHistory.getPercentile(DurationHistory.getTestId(className, identity.getName()), 99);
+        // if no history, exit
+        if (p99 < 0) return -1;
+        
+        JUnitConfig config = LifecycleHooks.getConfig();
+        double factor = config.getDouble(JUnitSettings.TIMEOUT_FACTOR.key(), 3.0);
+        long floor = config.getLong(JUnitSettings.TIMEOUT_FLOOR.key(), 1000L);
+        long ceiling = testTimeout;
+        // if ceiling is specified
+        if (config.containsKey(JUnitSettings.TIMEOUT_CEILING.key())) {
+            ceiling = config.getLong(JUnitSettings.TIMEOUT_CEILING.key());
+        }
+        
+        long timeout = Math.max(floor, (long) Math.ceil(p99 * factor));
+        return (ceiling > 0) ? Math.min(timeout, ceiling) : timeout;
+    }
+    
     /**
      * Get "identity" method of the atomic test for the specified class runner.
      * 
@@ -184,4 +333,59 @@ class TimeoutUtils {
         
         return identity;
     }
+    
+    /**
+     * This class captures the timeout settings for a run.
+     */
+    private static class TimeoutSettings {
+        final long uberTimeout;
+        final long testTimeout;
+        final boolean adaptive;
+        
+        TimeoutSettings(final JUnitConfig config) {
+            uberTimeout = config.containsKey(JUnitSettings.TIMEOUT_RULE.key())
+                    ? config.getLong(JUnitSettings.TIMEOUT_RULE.key()) : -1;
+            testTimeout = config.containsKey(JUnitSettings.TEST_TIMEOUT.key())
+                    ? config.getLong(JUnitSettings.TEST_TIMEOUT.key()) : -1;
+            adaptive = config.getBoolean(JUnitSettings.TIMEOUT_ADAPTIVE.key(), false);
+        }
+    }
+
+    /**
+     * This class holds the resolved rule-based timeout of a test method.
+     */
+    private static class RuleTimeout {
+        final long uberTimeout;
+        final long ruleTimeout;
+        final long timeout;
+        final boolean watchdog;
+        
+        /**
+         * Constructor: Resolve the rule-based timeout for the specified test method.
+         * 
+         * @param identity "identity" method of the atomic test (may be {@code null})
+         * @param timeoutRule {@link Timeout} rule (or watchdog) of the test class (may be {@code null})
+         */
+        RuleTimeout(final FrameworkMethod identity, final TestRule timeoutRule) {
+            // get @Test annotation
+            Test annotation = (identity != null) ? identity.getAnnotation(Test.class) : null;
+            // get test method timeout interval
+            long metaTimeout = (annotation != null) ? annotation.timeout() : 0L;
+            // get default timeout rule interval
+            uberTimeout = getSettings().uberTimeout;
+            
+            if (timeoutRule instanceof Timeout) {
+                // extract rule interval
+                ruleTimeout = getTimeout((Timeout) timeoutRule);
+            } else if (timeoutRule instanceof TimeoutWatchdog) {
+                ruleTimeout = ((TimeoutWatchdog) timeoutRule).getTimeout(TimeUnit.MILLISECONDS);
+            } else {
+                ruleTimeout = -1;
+            }
+            
+            boolean disableTimeout = ((uberTimeout == 0) || (ruleTimeout == 0));
+            timeout = disableTimeout ? 0 : Math.max(metaTimeout, Math.max(uberTimeout, ruleTimeout));
+            watchdog = TimeoutWatchdog.isEnabled();
+        }
+    }
 }
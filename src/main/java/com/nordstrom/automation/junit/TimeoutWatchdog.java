@@ -0,0 +1,220 @@
+package com.nordstrom.automation.junit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.rules.TestRule;
+import org.junit.runner.Description;
+import org.junit.runners.model.Statement;
+import org.junit.runners.model.TestTimedOutException;
+
+import com.nordstrom.automation.junit.JUnitConfig.JUnitSettings;
+
+/**
+ * This class implements timeout enforcement via a single shared watchdog thread. Unlike the standard
+ * {@link org.junit.rules.Timeout Timeout} rule, which runs each test in a new thread, the watchdog runs the test in
+ * the current thread and interrupts it in place if it fails to complete within the specified interval. Expired tests
+ * fail with {@link TestTimedOutException}, which carries the stack trace of the test thread at the point of expiry.
+ * <p>
+ * If the {@link JUnitSettings#TIMEOUT_THREAD_DUMP TIMEOUT_THREAD_DUMP} setting is enabled, a full thread dump is
+ * captured at expiry and stored as a test artifact by {@link ThreadDumpCollector}. This dump can also include stack
+ * samples of the test thread, captured at regular intervals before expiry.
+ * <p>
+ * <b>NOTE</b>: Watchdog enforcement is activated by the {@link JUnitSettings#TIMEOUT_WATCHDOG TIMEOUT_WATCHDOG}
+ * setting. Because the test is interrupted rather than abandoned, tests that ignore interruption will run to
+ * completion before the timeout failure is reported.
+ */
+public class TimeoutWatchdog implements TestRule {
+
+    private static final int RUNNING = 0;
+    private static final int EXPIRING = 1;
+    private static final int DONE = 2;
+
+    private final long timeout;
+
+    /**
+     * Constructor: Create a watchdog rule with the specified timeout interval.
+     *
+     * @param timeout timeout interval in milliseconds
+     */
+    public TimeoutWatchdog(final long timeout) {
+        this.timeout = timeout;
+    }
+
+    /**
+     * Get the timeout interval of this watchdog rule.
+     *
+     * @param unit time unit of the result
+     * @return timeout interval in the specified unit
+     */
+    public long getTimeout(final TimeUnit unit) {
+        return unit.convert(timeout, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Statement apply(final Statement base, final Description description) {
+        return watch(base, timeout);
+    }
+
+    /**
+     * Determine if timeouts are enforced by the shared watchdog.
+     *
+     * @return {@code true} if watchdog enforcement is enabled; otherwise {@code false}
+     */
+    static boolean isEnabled() {
+        return LifecycleHooks.getConfig().getBoolean(JUnitSettings.TIMEOUT_WATCHDOG.key(), false);
+    }
+
+    /**
+     * Wrap the specified statement with watchdog timeout enforcement.
+     *
+     * @param next statement to be guarded
+     * @param timeout timeout interval in milliseconds
+     * @return {@link Statement} that enforces the specified timeout
+     */
+    static Statement watch(final Statement next, final long timeout) {
+        JUnitConfig config = LifecycleHooks.getConfig();
+        final boolean threadDump = config.getBoolean(JUnitSettings.TIMEOUT_THREAD_DUMP.key(), false);
+        final int sampleCount = threadDump ? config.getInt(JUnitSettings.TIMEOUT_STACK_SAMPLES.key(), 0) : 0;
+        final long sampleInterval = config.getLong(JUnitSettings.TIMEOUT_SAMPLE_INTERVAL.key(), 100L);
+        
+        return new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                final Thread testThread = Thread.currentThread();
+                final AtomicInteger state = new AtomicInteger(RUNNING);
+                final CountDownLatch expired = new CountDownLatch(1);
+                final List<StackTraceElement[]> samples = new CopyOnWriteArrayList<>();
+                final StackTraceElement[][] stackTrace = new StackTraceElement[1][];
+                final String[] dump = new String[1];
+                
+                List<ScheduledFuture<?>> samplers = new ArrayList<>();
+                // schedule stack samples at regular intervals preceding expiry
+                for (int i = sampleCount; i > 0; i--) {
+                    long delay = timeout - (i * sampleInterval);
+                    if (delay <= 0) continue;
+                    samplers.add(Scheduler.EXECUTOR.schedule(new Runnable() {
+                        @Override
+                        public void run() {
+                            if (state.get() == RUNNING) {
+                                samples.add(testThread.getStackTrace());
+                            }
+                        }
+                    }, delay, TimeUnit.MILLISECONDS));
+                }
+
+                final Runnable expire = new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            stackTrace[0] = testThread.getStackTrace();
+                            // if thread dump requested
+                            if (threadDump) {
+                                dump[0] = ThreadDumpArtifact.capture(testThread, timeout, samples);
+                            }
+                            testThread.interrupt();
+                        } finally {
+                            expired.countDown();
+                        }
+                    }
+                };
+                
+                ScheduledFuture<?> expiry = Scheduler.EXECUTOR.schedule(new Runnable() {
+                    @Override
+                    public void run() {
+                        // if test still running
+                        if (state.compareAndSet(RUNNING, EXPIRING)) {
+                            // if thread dump requested, capture it off the shared watchdog thread
+                            if (threadDump) {
+                                DumpCapture.EXECUTOR.execute(expire);
+                            } else {
+                                expire.run();
+                            }
+                        }
+                    }
+                }, timeout, TimeUnit.MILLISECONDS);
+
+                Throwable thrown = null;
+                try {
+                    next.evaluate();
+                } catch (Throwable t) {
+                    thrown = t;
+                }
+                
+                for (ScheduledFuture<?> sampler : samplers) {
+                    sampler.cancel(false);
+                }
+
+                // if test finished before expiry
+                if (state.compareAndSet(RUNNING, DONE)) {
+                    expiry.cancel(false);
+                } else {
+                    // wait for watchdog to finish interrupting
+                    boolean waiting = true;
+                    while (waiting) {
+                        try {
+                            expired.await();
+                            waiting = false;
+                        } catch (InterruptedException e) {
+                            // interrupted by watchdog; keep waiting
+                        }
+                    }
+                    // clear interrupt
+                    Thread.interrupted();
+                    TestTimedOutException timedOut = new TestTimedOutException(timeout, TimeUnit.MILLISECONDS);
+                    timedOut.setStackTrace(stackTrace[0]);
+                    // if thread dump captured
+                    if (dump[0] != null) {
+                        // make available to collector
+                        ThreadDumpArtifact.attach(timedOut, dump[0]);
+                    }
+                    throw timedOut;
+                }
+
+                if (thrown != null) {
+                    throw thrown;
+                }
+            }
+        };
+    }
+    
+    /**
+     * Determine if thread dumps are captured for tests terminated by the shared watchdog.
+     *
+     * @return {@code true} if thread dump capture is enabled; otherwise {@code false}
+     */
+    static boolean isThreadDumpEnabled() {
+        return isEnabled() && LifecycleHooks.getConfig().getBoolean(JUnitSettings.TIMEOUT_THREAD_DUMP.key(), false);
+    }
+
+    /**
+     * This class provides lazy initialization of the shared watchdog scheduler.
+     */
+    private static class Scheduler {
+        static final ScheduledThreadPoolExecutor EXECUTOR;
+
+        static {
+            EXECUTOR = new ScheduledThreadPoolExecutor(1, DaemonPool.newThreadFactory("junit-timeout-watchdog"));
+            EXECUTOR.setRemoveOnCancelPolicy(true);
+        }
+    }
+
+    /**
+     * This class provides lazy initialization of the executor that captures thread dumps of expired tests.
+     */
+    private static class DumpCapture {
+        static final ExecutorService EXECUTOR =
+                Executors.newCachedThreadPool(DaemonPool.newNumberedThreadFactory("junit-timeout-dump-"));
+    }
+}
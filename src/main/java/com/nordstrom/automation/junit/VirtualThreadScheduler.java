@@ -0,0 +1,65 @@
+package com.nordstrom.automation.junit;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import org.junit.runners.ParentRunner;
+import org.junit.runners.model.RunnerScheduler;
+
+import com.nordstrom.common.base.UncheckedThrow;
+
+/**
+ * This class implements a {@link RunnerScheduler} that runs each child of a {@link ParentRunner} on a new virtual
+ * thread, which suits suites of I/O-bound tests whose parallelism would otherwise be limited by the number of platform
+ * threads. It's installed in place of {@link ParallelScheduler} if the
+ * {@link com.nordstrom.automation.junit.JUnitConfig.JUnitSettings#PARALLEL_VIRTUAL PARALLEL_VIRTUAL} setting is
+ * enabled and the Java runtime supports virtual threads (see {@link VirtualThreads}).
+ * <p>
+ * As with {@link ParallelScheduler}, each child is run with its runner pushed onto the runner stack of its thread.
+ * Per-thread state (runner stacks and interceptor depth gauges) is released as each child completes, so large
+ * numbers of short-lived virtual threads don't accumulate state.
+ */
+public class VirtualThreadScheduler implements RunnerScheduler {
+
+    private final Object runner;
+    private final Queue<Future<?>> futures = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Constructor: Create a virtual thread scheduler for the specified runner.
+     *
+     * @param runner JUnit parent runner
+     */
+    public VirtualThreadScheduler(final ParentRunner<?> runner) {
+        this.runner = runner;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void schedule(Runnable childStatement) {
+        futures.add(VirtualThreads.getExecutor().submit(ParallelScheduler.childTask(runner, childStatement)));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * <b>NOTE</b>: This method waits for all scheduled children to complete.
+     */
+    @Override
+    public void finished() {
+        Future<?> future;
+        while ((future = futures.poll()) != null) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException e) {
+                throw UncheckedThrow.throwUnchecked(e.getCause());
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.nordstrom.automation.junit;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class provides access to virtual threads on Java runtimes that support them (Java 21 and later). Because
+ * <b>JUnit Foundation</b> is built for Java 8, the virtual thread API is accessed reflectively; on earlier runtimes,
+ * {@link #isSupported()} returns {@code false} and callers fall back to platform threads.
+ */
+class VirtualThreads {
+
+    private static final String THREAD_PREFIX = "junit-virtual-";
+    private static final Logger LOGGER = LoggerFactory.getLogger(VirtualThreads.class);
+
+    private VirtualThreads() {
+        throw new AssertionError("VirtualThreads is a static utility class that cannot be instantiated");
+    }
+
+    /**
+     * Determine if the current Java runtime supports virtual threads.
+     *
+     * @return {@code true} if virtual threads are supported; otherwise {@code false}
+     */
+    static boolean isSupported() {
+        return VirtualExecutor.EXECUTOR != null;
+    }
+
+    /**
+     * Get the shared executor that runs each task on a new virtual thread.
+     *
+     * @return virtual thread executor; {@code null} if virtual threads aren't supported
+     */
+    static ExecutorService getExecutor() {
+        return VirtualExecutor.EXECUTOR;
+    }
+
+    /**
+     * This class provides lazy initialization of the shared virtual thread executor.
+     */
+    private static class VirtualExecutor {
+        static final ExecutorService EXECUTOR;
+
+        static {
+            ExecutorService executor = null;
+            try {
+                // Thread.ofVirtual().name(THREAD_PREFIX, 1).factory()
+                Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+                Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+                builder = builderType.getMethod("name", String.class, long.class).invoke(builder, THREAD_PREFIX, 1L);
+                ThreadFactory factory = (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+                // Executors.newThreadPerTaskExecutor(factory)
+                executor = (ExecutorService) Executors.class
+                        .getMethod("newThreadPerTaskExecutor", ThreadFactory.class).invoke(null, factory);
+            } catch (NoSuchMethodException | ClassNotFoundException e) {
+                LOGGER.info("Virtual threads are not supported by this Java runtime");
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                // e.g. - preview feature not enabled
+                LOGGER.info("Virtual threads are not available", e);
+            }
+            EXECUTOR = executor;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.nordstrom.automation.junit;
+
+import java.util.concurrent.Callable;
+
+import org.junit.Test;
+import org.junit.runners.model.FrameworkMethod;
+import org.junit.runners.model.Statement;
+
+import net.bytebuddy.implementation.bind.annotation.Argument;
+import net.bytebuddy.implementation.bind.annotation.SuperCall;
+import net.bytebuddy.implementation.bind.annotation.This;
+
+/**
+ * This class declares the interceptor for the {@link org.junit.runners.BlockJUnit4ClassRunner#withPotentialTimeout
+ * withPotentialTimeout} method.
+ */
+public class WithPotentialTimeout {
+    
+    /**
+     * Default constructor
+     */
+    public WithPotentialTimeout() { }
+    
+    /**
+     * Interceptor for the {@link org.junit.runners.BlockJUnit4ClassRunner#withPotentialTimeout
+     * withPotentialTimeout} method.
+     * <p>
+     * <b>NOTE</b>: If {@link TimeoutWatchdog watchdog} enforcement is enabled, the timeout specified by the
+     * {@link Test &#64;Test} annotation is enforced by the shared watchdog instead of a new thread per test.
+     * 
+     * @param runner underlying test runner
+     * @param proxy callable proxy for the intercepted method
+     * @param method framework method that's the "identity" of an atomic test
+     * @param next statement to be guarded by the timeout
+     * @return {@link Statement} that enforces the timeout of the specified method
+     * @throws Exception {@code anything} (exception thrown by the intercepted method)
+     */
+    public static Statement intercept(@This final Object runner, @SuperCall final Callable<?> proxy,
+            @Argument(0) final FrameworkMethod method, @Argument(2) final Statement next) throws Exception {
+        
+        // if watchdog enforcement is enabled
+        if (TimeoutWatchdog.isEnabled()) {
+            Test annotation = method.getAnnotation(Test.class);
+            long timeout = (annotation != null) ? annotation.timeout() : 0L;
+            return (timeout > 0) ? TimeoutWatchdog.watch(next, timeout) : next;
+        }
+        
+        return LifecycleHooks.callProxy(proxy);
+    }
+}
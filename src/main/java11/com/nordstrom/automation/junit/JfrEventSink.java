@@ -0,0 +1,135 @@
+package com.nordstrom.automation.junit;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * This class records the lifecycle events emitted by {@link LifecycleEvents} as custom Java Flight Recorder events.
+ * <p>
+ * <b>NOTE</b>: This class is compiled for Java 11 and packaged as a versioned class of the multi-release JAR.
+ */
+class JfrEventSink implements LifecycleEventSink {
+
+    private static final EventType RUN_TYPE = EventType.getEventType(RunEvent.class);
+    private static final EventType TEST_TYPE = EventType.getEventType(TestEvent.class);
+    private static final EventType INVOCATION_TYPE = EventType.getEventType(InvocationEvent.class);
+    private static final EventType CREATE_TYPE = EventType.getEventType(CreateEvent.class);
+
+    /**
+     * Default constructor
+     */
+    JfrEventSink() { }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object begin(final Kind kind) {
+        LifecycleEvent event;
+        switch (kind) {
+            case RUN:
+                if (!RUN_TYPE.isEnabled()) return null;
+                event = new RunEvent();
+                break;
+            case TEST:
+                if (!TEST_TYPE.isEnabled()) return null;
+                event = new TestEvent();
+                break;
+            case INVOCATION:
+                if (!INVOCATION_TYPE.isEnabled()) return null;
+                event = new InvocationEvent();
+                break;
+            default:
+                if (!CREATE_TYPE.isEnabled()) return null;
+                event = new CreateEvent();
+        }
+        event.begin();
+        return event;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void commit(final Object event, final String className, final String methodName, final String theoryId,
+            final String detail) {
+        LifecycleEvent lifecycleEvent = (LifecycleEvent) event;
+        lifecycleEvent.end();
+        if (lifecycleEvent.shouldCommit()) {
+            lifecycleEvent.testClass = className;
+            lifecycleEvent.testMethod = methodName;
+            lifecycleEvent.theoryId = theoryId;
+            lifecycleEvent.setDetail(detail);
+            lifecycleEvent.commit();
+        }
+    }
+
+    /**
+     * This is the base class for JUnit Foundation lifecycle events.
+     */
+    @Category("JUnit Foundation")
+    @StackTrace(false)
+    abstract static class LifecycleEvent extends Event {
+        @Label("Test Class")
+        String testClass;
+
+        @Label("Test Method")
+        String testMethod;
+
+        @Label("Theory ID")
+        @Description("Permutation ID of theory method")
+        String theoryId;
+
+        /**
+         * Set the event-specific detail of this event.
+         *
+         * @param detail event-specific detail; may be {@code null}
+         */
+        void setDetail(final String detail) {
+            // nothing to do here
+        }
+    }
+
+    @Name("com.nordstrom.automation.junit.Run")
+    @Label("JUnit Run")
+    @Description("Execution of a test runner")
+    static class RunEvent extends LifecycleEvent {
+    }
+
+    @Name("com.nordstrom.automation.junit.Test")
+    @Label("JUnit Test")
+    @Description("Execution of an atomic test")
+    static class TestEvent extends LifecycleEvent {
+        @Label("Outcome")
+        String outcome;
+
+        @Override
+        void setDetail(final String detail) {
+            outcome = detail;
+        }
+    }
+
+    @Name("com.nordstrom.automation.junit.Invocation")
+    @Label("JUnit Invocation")
+    @Description("Invocation of a configuration or test method")
+    static class InvocationEvent extends LifecycleEvent {
+        @Label("Phase")
+        String phase;
+
+        @Override
+        void setDetail(final String detail) {
+            phase = detail;
+        }
+    }
+
+    @Name("com.nordstrom.automation.junit.Create")
+    @Label("JUnit Create")
+    @Description("Creation of a test class instance")
+    static class CreateEvent extends LifecycleEvent {
+    }
+}
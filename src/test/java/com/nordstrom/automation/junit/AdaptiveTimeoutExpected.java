@@ -0,0 +1,24 @@
+package com.nordstrom.automation.junit;
+
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class AdaptiveTimeoutExpected {
+    
+    @Test
+    public void testAdaptivePassed() {
+        System.out.println("testAdaptivePassed");
+        assertTrue(true);
+    }
+    
+    @Test
+    public void testAdaptiveTimeout() throws InterruptedException {
+        System.out.println("testAdaptiveTimeout");
+        TimeUnit.MILLISECONDS.sleep(1000);
+        assertTrue(true);
+    }
+    
+}
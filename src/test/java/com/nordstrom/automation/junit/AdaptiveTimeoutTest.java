@@ -0,0 +1,79 @@
+package com.nordstrom.automation.junit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.runner.JUnitCore;
+import org.junit.runner.Result;
+import org.junit.runner.notification.Failure;
+import org.junit.runners.model.TestTimedOutException;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.nordstrom.automation.junit.JUnitConfig.JUnitSettings;
+
+public class AdaptiveTimeoutTest {
+    
+    private static final String CLASS_NAME = AdaptiveTimeoutExpected.class.getName();
+    private Path historyPath;
+    
+    @BeforeClass
+    public void before() throws IOException {
+        historyPath = Files.createTempFile("junit-durations", ".txt");
+        List<String> lines = Arrays.asList(CLASS_NAME + "#testAdaptiveTimeout\t90,100,80");
+        Files.write(historyPath, lines, StandardCharsets.UTF_8);
+        
+        System.setProperty(JUnitSettings.DURATION_HISTORY.key(), historyPath.toString());
+        System.setProperty(JUnitSettings.TIMEOUT_ADAPTIVE.key(), "true");
+        System.setProperty(JUnitSettings.TIMEOUT_FLOOR.key(), "200");
+        System.setProperty(JUnitSettings.TEST_TIMEOUT.key(), "5000");
+    }
+    
+    @Test
+    public void verifyAdaptiveTimeout() throws IOException {
+        RunListenerAdapter rla = new RunListenerAdapter();
+        ReferenceChecker checker = new ReferenceChecker();
+        
+        JUnitCore runner = new JUnitCore();
+        runner.addListener(rla);
+        runner.addListener(checker);
+        Result result = runner.run(AdaptiveTimeoutExpected.class);
+        
+        assertEquals(rla.getPassedTests().size(), 1, "Incorrect passed test count");
+        assertEquals(rla.getFailedTests().size(), 1, "Incorrect failed test count");
+        
+        Failure failure = result.getFailures().get(0);
+        assertEquals(failure.getException().getClass(), TestTimedOutException.class, "Incorrect exception class");
+        assertEquals(failure.getException().getMessage(), "test timed out after 300 milliseconds",
+                "Incorrect failure message");
+        
+        long[] samples = DurationHistory.getSamples(CLASS_NAME + "#testAdaptivePassed");
+        assertNotNull(samples, "Duration of passing test not recorded");
+        assertEquals(samples.length, 1, "Incorrect sample count");
+        
+        DurationHistory.save();
+        String content = new String(Files.readAllBytes(historyPath), StandardCharsets.UTF_8);
+        assertTrue(content.contains(CLASS_NAME + "#testAdaptivePassed\t"), "Duration history not saved");
+        assertTrue(content.contains(CLASS_NAME + "#testAdaptiveTimeout\t90,100,80"), "Duration history altered");
+        ReferenceReleaseTest.checkLeakReports(checker);
+    }
+    
+    @AfterClass
+    public void after() throws IOException {
+        System.clearProperty(JUnitSettings.DURATION_HISTORY.key());
+        System.clearProperty(JUnitSettings.TIMEOUT_ADAPTIVE.key());
+        System.clearProperty(JUnitSettings.TIMEOUT_FLOOR.key());
+        System.clearProperty(JUnitSettings.TEST_TIMEOUT.key());
+        Files.deleteIfExists(historyPath);
+    }
+    
+}
@@ -0,0 +1,26 @@
+package com.nordstrom.automation.junit;
+
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+public class ArtifactCollectorDeferred extends TestBase {
+    
+    static boolean didFail;
+    
+    @Test
+    public void testPassOnRetry() {
+        System.out.println("passOnRetry");
+        if (!didFail) {
+            didFail = true;
+            fail("passOnRetry");
+        }
+    }
+    
+    @Test
+    public void testFailOnRetry() {
+        System.out.println("failOnRetry");
+        fail("failOnRetry");
+    }
+    
+}
@@ -0,0 +1,23 @@
+package com.nordstrom.automation.junit;
+
+import static org.junit.Assert.fail;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.junit.Test;
+
+public class ArtifactCollectorFlaky extends TestBase {
+    
+    static Optional<Path> artifactPath;
+    
+    @Test
+    public void testPassOnRetry() {
+        System.out.println("passOnRetry");
+        if (artifactPath == null) {
+            artifactPath = watcher.captureArtifact(null);
+            fail("passOnRetry");
+        }
+    }
+    
+}
@@ -0,0 +1,61 @@
+package com.nordstrom.automation.junit;
+
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+@NoRetry
+public class ArtifactCollectorParallel {
+    
+    static CountDownLatch rendezvous;
+    static final List<String> CAPTURE_THREADS = Collections.synchronizedList(new ArrayList<String>());
+    
+    @Rule
+    public final ArtifactCollector<RendezvousArtifact> first = new ArtifactCollector<>(this, new RendezvousArtifact());
+    
+    @Rule
+    public final ArtifactCollector<RendezvousArtifact> second = new ArtifactCollector<>(this, new RendezvousArtifact());
+    
+    @Test
+    public void testParallelCapture() {
+        System.out.println("parallelCapture");
+        fail("parallelCapture");
+    }
+    
+    /**
+     * This artifact type completes capture only when all collectors are capturing at the same time.
+     */
+    static class RendezvousArtifact extends ArtifactType {
+        
+        @Override
+        public boolean canGetArtifact(Object instance) {
+            return true;
+        }
+        
+        @Override
+        public byte[] getArtifact(Object instance, Throwable reason) {
+            rendezvous.countDown();
+            try {
+                if (rendezvous.await(5, TimeUnit.SECONDS)) {
+                    CAPTURE_THREADS.add(Thread.currentThread().getName());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "rendezvous".getBytes();
+        }
+        
+        @Override
+        public String getArtifactExtension() {
+            return "txt";
+        }
+    }
+    
+}
@@ -0,0 +1,22 @@
+package com.nordstrom.automation.junit;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Test;
+
+public class ArtifactCollectorQuota extends TestBase {
+    
+    static final List<Optional<Path>> artifactPaths = new ArrayList<>();
+    
+    @Test
+    public void testArtifactQuota() {
+        System.out.println("artifactQuota");
+        for (int i = 0; i < 3; i++) {
+            artifactPaths.add(watcher.captureArtifact(null));
+        }
+    }
+    
+}
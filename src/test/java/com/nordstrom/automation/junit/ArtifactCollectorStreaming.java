@@ -0,0 +1,23 @@
+package com.nordstrom.automation.junit;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+public class ArtifactCollectorStreaming {
+    
+    static Optional<Path> artifactPath;
+    
+    @Rule
+    public final ArtifactCollector<UnitTestStreamingArtifact> watcher =
+                    new ArtifactCollector<>(this, new UnitTestStreamingArtifact());
+    
+    @Test
+    public void testStreamingCapture() {
+        System.out.println("streamingCapture");
+        artifactPath = watcher.captureArtifact(null);
+    }
+    
+}
@@ -6,13 +6,22 @@ import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertTrue;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
 
 import org.junit.runner.Description;
 import org.junit.runner.JUnitCore;
+import org.junit.runner.Request;
 import org.junit.runner.Result;
+import org.junit.runner.notification.RunNotifier;
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
@@ -346,9 +355,384 @@ public class ArtifactCollectorTest {
         ReferenceReleaseTest.checkLeakReports(checker);
     }
     
+    @Test
+    public void verifyAsyncCapture() throws IOException {
+        System.setProperty(JUnitSettings.ARTIFACT_ASYNC.key(), "true");
+        try {
+            RunListenerAdapter rla = new RunListenerAdapter();
+            ReferenceChecker checker = new ReferenceChecker();
+            
+            JUnitCore runner = new JUnitCore();
+            runner.addListener(rla);
+            runner.addListener(checker);
+            Result result = runner.run(ArtifactCollectorAsync.class);
+            assertFalse(result.wasSuccessful());
+            
+            assertEquals(rla.getFailedTests().size(), 1, "Incorrect failed test count");
+            
+            Description description = rla.getFailedTests().get(0);
+            UnitTestCapture watcher = rla.getWatcher(description);
+            assertNotNull(watcher, "Unit test artifact collector not registered");
+            assertTrue(watcher.getArtifactPath().isPresent(), "Artifact capture output path is not present");
+            Path artifactPath = watcher.getArtifactPath().get();
+            assertTrue(Files.size(artifactPath) > 0, "Artifact write not completed at test finish");
+            assertEquals(watcher.retrieveArtifactPaths().get(), Arrays.asList(artifactPath), "Incorrect artifact paths");
+            ReferenceReleaseTest.checkLeakReports(checker);
+        } finally {
+            System.clearProperty(JUnitSettings.ARTIFACT_ASYNC.key());
+        }
+    }
+    
+    @Test
+    public void verifyStreamingCapture() throws IOException {
+        RunListenerAdapter rla = new RunListenerAdapter();
+        ReferenceChecker checker = new ReferenceChecker();
+        
+        JUnitCore runner = new JUnitCore();
+        runner.addListener(rla);
+        runner.addListener(checker);
+        Result result = runner.run(ArtifactCollectorStreaming.class);
+        assertTrue(result.wasSuccessful());
+        
+        assertEquals(rla.getPassedTests().size(), 1, "Incorrect passed test count");
+        assertTrue(ArtifactCollectorStreaming.artifactPath.isPresent(), "Artifact capture output path is not present");
+        
+        byte[] expect = new UnitTestStreamingArtifact().getArtifact(null, null);
+        assertEquals(expect.length, UnitTestStreamingArtifact.LINE_COUNT * UnitTestStreamingArtifact.LINE.length(),
+                "Incorrect buffered artifact length");
+        assertEquals(Files.readAllBytes(ArtifactCollectorStreaming.artifactPath.get()), expect,
+                "Incorrect streamed artifact content");
+        ReferenceReleaseTest.checkLeakReports(checker);
+    }
+    
+    @Test
+    public void verifyContentAddressedCapture() throws IOException {
+        System.setProperty(JUnitSettings.ARTIFACT_STORE.key(), "CAS");
+        try {
+            Result result = JUnitCore.runClasses(ArtifactCollectorStreaming.class);
+            assertTrue(result.wasSuccessful());
+            assertTrue(ArtifactCollectorStreaming.artifactPath.isPresent(), "Artifact capture output path is not present");
+            Path firstPath = ArtifactCollectorStreaming.artifactPath.get();
+            
+            result = JUnitCore.runClasses(ArtifactCollectorStreaming.class);
+            assertTrue(result.wasSuccessful());
+            assertTrue(ArtifactCollectorStreaming.artifactPath.isPresent(), "Artifact capture output path is not present");
+            Path secondPath = ArtifactCollectorStreaming.artifactPath.get();
+            
+            assertFalse(firstPath.equals(secondPath), "Artifact references should be distinct");
+            assertTrue(secondPath.toString().endsWith(ArtifactStore.REF_SUFFIX), "Artifact reference expected");
+            assertEquals(Files.readAllBytes(firstPath), Files.readAllBytes(secondPath), "Artifact blob should be shared");
+            
+            byte[] expect = new UnitTestStreamingArtifact().getArtifact(null, null);
+            assertEquals(ArtifactStore.readArtifact(firstPath), expect, "Incorrect referenced artifact content");
+            assertEquals(ArtifactStore.readArtifact(secondPath), expect, "Incorrect referenced artifact content");
+        } finally {
+            System.clearProperty(JUnitSettings.ARTIFACT_STORE.key());
+        }
+    }
+    
+    @Test
+    public void verifyArtifactQuota() {
+        System.setProperty(JUnitSettings.ARTIFACT_MAX_PER_TEST.key(), "1");
+        try {
+            ArtifactCollectorQuota.artifactPaths.clear();
+            ReferenceChecker checker = new ReferenceChecker();
+            
+            JUnitCore runner = new JUnitCore();
+            runner.addListener(checker);
+            Result result = runner.run(ArtifactCollectorQuota.class);
+            assertTrue(result.wasSuccessful());
+            List<Optional<Path>> keepFirst = new ArrayList<>(ArtifactCollectorQuota.artifactPaths);
+            assertEquals(keepFirst.size(), 3, "Incorrect capture count");
+            assertTrue(keepFirst.get(0).isPresent(), "First artifact should be retained");
+            assertFalse(keepFirst.get(1).isPresent(), "Second artifact should be skipped");
+            assertFalse(keepFirst.get(2).isPresent(), "Third artifact should be skipped");
+            ReferenceReleaseTest.checkLeakReports(checker);
+            
+            System.setProperty(JUnitSettings.ARTIFACT_EVICTION.key(), "KEEP_LAST");
+            ArtifactCollectorQuota.artifactPaths.clear();
+            checker = new ReferenceChecker();
+            
+            runner = new JUnitCore();
+            runner.addListener(checker);
+            result = runner.run(ArtifactCollectorQuota.class);
+            assertTrue(result.wasSuccessful());
+            List<Optional<Path>> keepLast = new ArrayList<>(ArtifactCollectorQuota.artifactPaths);
+            assertEquals(keepLast.size(), 3, "Incorrect capture count");
+            assertFalse(Files.exists(keepLast.get(0).get()), "First artifact should be evicted");
+            assertFalse(Files.exists(keepLast.get(1).get()), "Second artifact should be evicted");
+            assertTrue(Files.exists(keepLast.get(2).get()), "Last artifact should be retained");
+            ReferenceReleaseTest.checkLeakReports(checker);
+        } finally {
+            System.clearProperty(JUnitSettings.ARTIFACT_MAX_PER_TEST.key());
+            System.clearProperty(JUnitSettings.ARTIFACT_EVICTION.key());
+        }
+    }
+    
+    @Test
+    public void verifyDropPassedRetries() {
+        System.setProperty(JUnitSettings.ARTIFACT_DROP_PASSED_RETRIES.key(), "true");
+        try {
+            ArtifactCollectorFlaky.artifactPath = null;
+            RunListenerAdapter rla = new RunListenerAdapter();
+            ReferenceChecker checker = new ReferenceChecker();
+            
+            JUnitCore runner = new JUnitCore();
+            runner.addListener(rla);
+            runner.addListener(checker);
+            Result result = runner.run(ArtifactCollectorFlaky.class);
+            assertTrue(result.wasSuccessful());
+            
+            assertEquals(rla.getPassedTests().size(), 1, "Incorrect passed test count");
+            assertEquals(rla.getRetriedTests().size(), 1, "Incorrect retried test count");
+            assertTrue(ArtifactCollectorFlaky.artifactPath.isPresent(), "Artifact capture output path is not present");
+            assertFalse(Files.exists(ArtifactCollectorFlaky.artifactPath.get()),
+                    "Artifact of failed attempt should be discarded");
+            ReferenceReleaseTest.checkLeakReports(checker);
+        } finally {
+            System.clearProperty(JUnitSettings.ARTIFACT_DROP_PASSED_RETRIES.key());
+        }
+    }
+    
+    @Test
+    public void verifyDeferredCapture() throws IOException {
+        System.setProperty(JUnitSettings.ARTIFACT_DEFERRED.key(), "true");
+        try {
+            ArtifactCollectorDeferred.didFail = false;
+            RunListenerAdapter rla = new RunListenerAdapter();
+            
+            JUnitCore runner = new JUnitCore();
+            runner.addListener(rla);
+            Result result = runner.run(ArtifactCollectorDeferred.class);
+            assertFalse(result.wasSuccessful());
+            
+            assertEquals(rla.getPassedTests().size(), 1, "Incorrect passed test count");
+            assertEquals(rla.getFailedTests().size(), 1, "Incorrect failed test count");
+            assertEquals(rla.getRetriedTests().size(), 2, "Incorrect retried test count");
+            
+            UnitTestCapture watcher = rla.getWatcher(rla.getFailedTests().get(0));
+            assertNotNull(watcher, "Unit test artifact collector not registered");
+            assertNull(watcher.getArtifactPath(), "Artifact capture should have been deferred");
+            Optional<List<Path>> artifactPaths = watcher.retrieveArtifactPaths();
+            assertTrue(artifactPaths.isPresent(), "Artifact of final failure was not stored");
+            assertEquals(artifactPaths.get().size(), 1, "Incorrect artifact count");
+            
+            Path artifactPath = artifactPaths.get().get(0);
+            assertTrue(Files.exists(artifactPath), "Artifact file not found");
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(artifactPath.getParent(), "testPassOnRetry*")) {
+                assertFalse(stream.iterator().hasNext(), "Artifact of retried attempt should not be stored");
+            }
+        } finally {
+            System.clearProperty(JUnitSettings.ARTIFACT_DEFERRED.key());
+        }
+    }
+    
+    @Test
+    public void verifyParallelCapture() {
+        System.setProperty(JUnitSettings.ARTIFACT_PARALLEL.key(), "true");
+        try {
+            ArtifactCollectorParallel.rendezvous = new CountDownLatch(2);
+            ArtifactCollectorParallel.CAPTURE_THREADS.clear();
+            
+            Result result = JUnitCore.runClasses(ArtifactCollectorParallel.class);
+            assertFalse(result.wasSuccessful());
+            
+            List<String> threads = new ArrayList<>(ArtifactCollectorParallel.CAPTURE_THREADS);
+            assertEquals(threads.size(), 2, "Artifacts were not captured concurrently");
+            for (String thread : threads) {
+                assertTrue(thread.startsWith("artifact-capture-"), "Capture should run on the capture pool: " + thread);
+            }
+        } finally {
+            System.clearProperty(JUnitSettings.ARTIFACT_PARALLEL.key());
+        }
+    }
+    
+    @Test
+    public void verifyArtifactManifest() throws IOException {
+        System.setProperty(JUnitSettings.ARTIFACT_MANIFEST.key(), "true");
+        try {
+            ArtifactCollectorQuota.artifactPaths.clear();
+            Result result = JUnitCore.runClasses(ArtifactCollectorQuota.class);
+            assertTrue(result.wasSuccessful());
+            ArtifactManifest.closeAll();
+            
+            List<Optional<Path>> artifactPaths = new ArrayList<>(ArtifactCollectorQuota.artifactPaths);
+            assertEquals(artifactPaths.size(), 3, "Incorrect capture count");
+            
+            Path reportsPath = artifactPaths.get(0).get().getParent();
+            Path manifestPath = null;
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(reportsPath, "artifact-manifest*.jsonl")) {
+                for (Path path : stream) {
+                    if ((manifestPath == null) || (Files.getLastModifiedTime(path).compareTo(
+                                    Files.getLastModifiedTime(manifestPath)) > 0)) {
+                        manifestPath = path;
+                    }
+                }
+            }
+            assertNotNull(manifestPath, "Artifact manifest not found");
+            
+            List<String> lines = Files.readAllLines(manifestPath, StandardCharsets.UTF_8);
+            assertEquals(lines.size(), 3, "Incorrect manifest entry count");
+            for (int i = 0; i < 3; i++) {
+                String line = lines.get(i);
+                String name = artifactPaths.get(i).get().getFileName().toString();
+                assertTrue(line.startsWith("{\"event\":\"saved\""), "Incorrect manifest event: " + line);
+                assertTrue(line.contains("\"path\":\"" + name + "\""), "Incorrect manifest path: " + line);
+                assertTrue(line.contains("\"testId\":\"" + ArtifactCollectorQuota.class.getName()
+                                + "#testArtifactQuota\""), "Incorrect manifest test id: " + line);
+                assertTrue(line.contains("\"artifactType\":\"UnitTestArtifact\""), "Incorrect artifact type: " + line);
+            }
+        } finally {
+            System.clearProperty(JUnitSettings.ARTIFACT_MANIFEST.key());
+        }
+    }
+    
+    @Test
+    public void verifyRunWideQuota() {
+        System.setProperty(JUnitSettings.ARTIFACT_MAX_PER_RUN.key(), "1");
+        try {
+            ArtifactCollectorQuota.artifactPaths.clear();
+            RunListenerAdapter rla = new RunListenerAdapter();
+            ReferenceChecker checker = new ReferenceChecker();
+            Result result = runAsRootRunners(rla, checker, ArtifactCollectorFailing.class, ArtifactCollectorQuota.class);
+            assertFalse(result.wasSuccessful());
+            
+            assertEquals(rla.getFailedTests().size(), 1, "Incorrect failed test count");
+            UnitTestCapture watcher = rla.getWatcher(rla.getFailedTests().get(0));
+            assertNotNull(watcher, "Unit test artifact collector not registered");
+            
+            List<Optional<Path>> artifactPaths = new ArrayList<>(ArtifactCollectorQuota.artifactPaths);
+            assertEquals(artifactPaths.size(), 3, "Incorrect capture count");
+            for (Optional<Path> artifactPath : artifactPaths) {
+                assertFalse(artifactPath.isPresent(), "Run quota should apply to second test class");
+            }
+            ReferenceReleaseTest.checkLeakReports(checker);
+        } finally {
+            System.clearProperty(JUnitSettings.ARTIFACT_MAX_PER_RUN.key());
+        }
+    }
+    
+    @Test
+    public void verifyRunWideManifest() throws IOException {
+        System.setProperty(JUnitSettings.ARTIFACT_MANIFEST.key(), "true");
+        try {
+            ArtifactCollectorQuota.artifactPaths.clear();
+            RunListenerAdapter rla = new RunListenerAdapter();
+            ReferenceChecker checker = new ReferenceChecker();
+            Result result = runAsRootRunners(rla, checker, ArtifactCollectorQuota.class, ArtifactCollectorFailing.class);
+            assertFalse(result.wasSuccessful());
+            ArtifactManifest.closeAll();
+            
+            UnitTestCapture watcher = rla.getWatcher(rla.getFailedTests().get(0));
+            assertNotNull(watcher, "Unit test artifact collector not registered");
+            assertTrue(watcher.getArtifactPath().isPresent(), "Artifact of second test class not captured");
+            
+            // find the manifest that lists the artifact of the second test class
+            Path failingPath = watcher.getArtifactPath().get();
+            String failingName = "\"path\":\"" + failingPath.getFileName() + "\"";
+            List<String> lines = null;
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(failingPath.getParent(),
+                            "artifact-manifest*.jsonl")) {
+                for (Path path : stream) {
+                    List<String> candidate = Files.readAllLines(path, StandardCharsets.UTF_8);
+                    for (String line : candidate) {
+                        if (line.contains(failingName)) {
+                            lines = candidate;
+                        }
+                    }
+                }
+            }
+            assertNotNull(lines, "Artifact manifest of second test class not found");
+            
+            int quotaCount = 0;
+            for (Optional<Path> artifactPath : ArtifactCollectorQuota.artifactPaths) {
+                String quotaName = "\"path\":\"" + artifactPath.get().getFileName() + "\"";
+                for (String line : lines) {
+                    if (line.contains(quotaName)) {
+                        quotaCount++;
+                    }
+                }
+            }
+            assertEquals(quotaCount, 3, "Manifest should list the artifacts of both test classes");
+            ReferenceReleaseTest.checkLeakReports(checker);
+        } finally {
+            System.clearProperty(JUnitSettings.ARTIFACT_MANIFEST.key());
+        }
+    }
+    
+    @Test
+    public void verifyPackedCapture() throws IOException {
+        System.setProperty(JUnitSettings.ARTIFACT_STORE.key(), "PACK");
+        try {
+            ArtifactCollectorQuota.artifactPaths.clear();
+            Result result = JUnitCore.runClasses(ArtifactCollectorQuota.class);
+            assertTrue(result.wasSuccessful());
+            ArtifactPack.closeAll();
+            
+            List<Optional<Path>> artifactPaths = new ArrayList<>(ArtifactCollectorQuota.artifactPaths);
+            assertEquals(artifactPaths.size(), 3, "Incorrect capture count");
+            for (Optional<Path> artifactPath : artifactPaths) {
+                assertTrue(artifactPath.isPresent(), "Artifact capture output path is not present");
+            }
+            
+            Path storePath = artifactPaths.get(0).get().getParent().resolve(ArtifactStore.STORE_PATH);
+            Path packPath = null;
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(storePath, "*.pack")) {
+                for (Path path : stream) {
+                    if ((packPath == null) || (Files.getLastModifiedTime(path).compareTo(
+                                    Files.getLastModifiedTime(packPath)) > 0)) {
+                        packPath = path;
+                    }
+                }
+            }
+            assertNotNull(packPath, "Artifact pack not found");
+            
+            List<PackExtractor.Entry> entries = PackExtractor.readIndex(packPath);
+            assertEquals(entries.size(), 3, "Incorrect pack entry count");
+            byte[] expect = "method: testArtifactQuota\n".getBytes();
+            for (int i = 0; i < entries.size(); i++) {
+                PackExtractor.Entry entry = entries.get(i);
+                assertEquals(entry.getTestId(), ArtifactCollectorQuota.class.getName() + "#testArtifactQuota");
+                assertEquals(entry.getArtifactType(), UnitTestArtifact.class.getSimpleName());
+                assertTrue(artifactPaths.get(i).get().endsWith(entry.getName()), "Incorrect artifact name");
+                assertEquals(PackExtractor.read(packPath, entry), expect, "Incorrect packed artifact content");
+            }
+            
+            Path outputPath = Files.createTempDirectory("pack");
+            assertEquals(PackExtractor.extract(packPath, outputPath), 3, "Incorrect extracted artifact count");
+            assertEquals(Files.readAllBytes(outputPath.resolve(entries.get(2).getName())), expect,
+                    "Incorrect extracted artifact content");
+        } finally {
+            System.clearProperty(JUnitSettings.ARTIFACT_STORE.key());
+        }
+    }
+    
     @AfterClass
     public static void afterClass() {
         System.clearProperty(JUnitSettings.MAX_RETRY.key());
     }
     
+    /**
+     * Run each of the specified classes as a separate root runner with a shared notifier (like Maven Surefire).
+     * 
+     * @param rla run listener adapter
+     * @param checker reference checker
+     * @param testClasses test classes to run
+     * @return run result
+     */
+    private static Result runAsRootRunners(RunListenerAdapter rla, ReferenceChecker checker,
+                    Class<?>... testClasses) {
+        Result result = new Result();
+        RunNotifier notifier = new RunNotifier();
+        notifier.addListener(result.createListener());
+        notifier.addListener(rla);
+        notifier.addListener(checker);
+        notifier.fireTestRunStarted(Description.EMPTY);
+        for (Class<?> testClass : testClasses) {
+            Request.aClass(testClass).getRunner().run(notifier);
+        }
+        notifier.fireTestRunFinished(result);
+        return result;
+    }
+    
 }
@@ -0,0 +1,68 @@
+package com.nordstrom.automation.junit;
+
+import static org.testng.Assert.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.testng.annotations.Test;
+
+public class ArtifactSequenceTest {
+
+    @Test
+    public void verifySeededSequence() throws IOException {
+        Path folderPath = Files.createTempDirectory("sequence-");
+        Files.createFile(folderPath.resolve("base.txt"));
+        Files.createFile(folderPath.resolve("base-3.txt"));
+        Files.createFile(folderPath.resolve("base-x.txt"));
+
+        assertEquals(ArtifactSequence.getNextPath(folderPath, "base", "txt").getFileName().toString(), "base-4.txt");
+        assertEquals(ArtifactSequence.getNextPath(folderPath, "base", "txt").getFileName().toString(), "base-5.txt");
+        assertEquals(ArtifactSequence.getNextPath(folderPath, "other", "txt").getFileName().toString(), "other.txt");
+        assertEquals(ArtifactSequence.getNextPath(folderPath, "other", "txt").getFileName().toString(), "other-1.txt");
+        assertEquals(ArtifactSequence.getNextPath(folderPath, "base", "log").getFileName().toString(), "base.log");
+    }
+
+    @Test
+    public void verifyMissingFolder() throws IOException {
+        Path folderPath = Files.createTempDirectory("sequence-").resolve("missing");
+        assertEquals(ArtifactSequence.getNextPath(folderPath, "base", "txt"), folderPath.resolve("base.txt"));
+        assertEquals(ArtifactSequence.getNextPath(folderPath, "base", "txt"), folderPath.resolve("base-1.txt"));
+    }
+
+    @Test
+    public void verifyConcurrentAllocation() throws Exception {
+        final Path folderPath = Files.createTempDirectory("sequence-");
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Path>> futures = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                futures.add(executor.submit(new Callable<Path>() {
+                    @Override
+                    public Path call() {
+                        return ArtifactSequence.getNextPath(folderPath, "base", "txt");
+                    }
+                }));
+            }
+            Set<Path> paths = new HashSet<>();
+            for (Future<Path> future : futures) {
+                paths.add(future.get());
+            }
+            assertEquals(paths.size(), 200, "Allocated paths should be unique");
+            assertEquals(ArtifactSequence.getNextPath(folderPath, "base", "txt").getFileName().toString(),
+                    "base-200.txt");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+}
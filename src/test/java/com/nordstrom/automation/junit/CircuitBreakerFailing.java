@@ -0,0 +1,33 @@
+package com.nordstrom.automation.junit;
+
+import static org.junit.Assert.assertTrue;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class CircuitBreakerFailing {
+    
+    @Test
+    public void testA() {
+        System.out.println("testA");
+    }
+    
+    @Test
+    public void testB() {
+        System.out.println("testB");
+        assertTrue("testB", false);
+    }
+    
+    @Test
+    public void testC() {
+        System.out.println("testC");
+    }
+    
+    @Test
+    public void testD() {
+        System.out.println("testD");
+    }
+    
+}
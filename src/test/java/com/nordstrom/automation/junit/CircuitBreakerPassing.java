@@ -0,0 +1,20 @@
+package com.nordstrom.automation.junit;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class CircuitBreakerPassing {
+    
+    @Test
+    public void testA() {
+        System.out.println("testA");
+    }
+    
+    @Test
+    public void testB() {
+        System.out.println("testB");
+    }
+    
+}
@@ -0,0 +1,113 @@
+package com.nordstrom.automation.junit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import org.junit.runner.Description;
+import org.junit.runner.JUnitCore;
+import org.junit.runner.Request;
+import org.junit.runner.Result;
+import org.junit.runner.notification.RunNotifier;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import com.nordstrom.automation.junit.JUnitConfig.JUnitSettings;
+
+public class CircuitBreakerTest {
+    
+    @Test
+    public void testMaxFailures() {
+        System.setProperty(JUnitSettings.BREAKER_MAX_FAILURES.key(), "1");
+        
+        RunListenerAdapter rla = new RunListenerAdapter();
+        ReferenceChecker checker = new ReferenceChecker();
+        
+        JUnitCore runner = new JUnitCore();
+        runner.addListener(rla);
+        runner.addListener(checker);
+        Result result = runner.run(CircuitBreakerFailing.class);
+        assertFalse(result.wasSuccessful());
+        assertTrue(CircuitBreaker.isTripped(), "Circuit breaker should have tripped");
+        
+        assertEquals(rla.getPassedTests().size(), 1, "Incorrect passed test count");
+        assertEquals(rla.getFailedTests().size(), 1, "Incorrect failed test count");
+        assertEquals(rla.getIgnoredTests().size(), 2, "Incorrect ignored test count");
+        ReferenceReleaseTest.checkLeakReports(checker);
+    }
+    
+    @Test
+    public void testThreshold() {
+        System.setProperty(JUnitSettings.BREAKER_THRESHOLD.key(), "0.5");
+        System.setProperty(JUnitSettings.BREAKER_MIN_TESTS.key(), "2");
+        
+        RunListenerAdapter rla = new RunListenerAdapter();
+        ReferenceChecker checker = new ReferenceChecker();
+        
+        JUnitCore runner = new JUnitCore();
+        runner.addListener(rla);
+        runner.addListener(checker);
+        Result result = runner.run(CircuitBreakerFailing.class);
+        assertFalse(result.wasSuccessful());
+        assertTrue(CircuitBreaker.isTripped(), "Circuit breaker should have tripped");
+        
+        assertEquals(rla.getPassedTests().size(), 1, "Incorrect passed test count");
+        assertEquals(rla.getFailedTests().size(), 1, "Incorrect failed test count");
+        assertEquals(rla.getIgnoredTests().size(), 2, "Incorrect ignored test count");
+        ReferenceReleaseTest.checkLeakReports(checker);
+    }
+    
+    @Test
+    public void testNotTripped() {
+        System.setProperty(JUnitSettings.BREAKER_THRESHOLD.key(), "0.5");
+        
+        RunListenerAdapter rla = new RunListenerAdapter();
+        ReferenceChecker checker = new ReferenceChecker();
+        
+        JUnitCore runner = new JUnitCore();
+        runner.addListener(rla);
+        runner.addListener(checker);
+        Result result = runner.run(CircuitBreakerFailing.class);
+        assertFalse(result.wasSuccessful());
+        assertFalse(CircuitBreaker.isTripped(), "Circuit breaker should not have tripped");
+        
+        assertEquals(rla.getPassedTests().size(), 3, "Incorrect passed test count");
+        assertEquals(rla.getFailedTests().size(), 1, "Incorrect failed test count");
+        assertEquals(rla.getIgnoredTests().size(), 0, "Incorrect ignored test count");
+        ReferenceReleaseTest.checkLeakReports(checker);
+    }
+    
+    @Test
+    public void testTrippedAcrossRootRunners() {
+        System.setProperty(JUnitSettings.BREAKER_MAX_FAILURES.key(), "1");
+        
+        RunListenerAdapter rla = new RunListenerAdapter();
+        ReferenceChecker checker = new ReferenceChecker();
+        Result result = new Result();
+        
+        // run each class as a separate root runner with a shared notifier (like Maven Surefire)
+        RunNotifier notifier = new RunNotifier();
+        notifier.addListener(result.createListener());
+        notifier.addListener(rla);
+        notifier.addListener(checker);
+        notifier.fireTestRunStarted(Description.EMPTY);
+        Request.aClass(CircuitBreakerFailing.class).getRunner().run(notifier);
+        Request.aClass(CircuitBreakerPassing.class).getRunner().run(notifier);
+        notifier.fireTestRunFinished(result);
+        assertFalse(result.wasSuccessful());
+        assertTrue(CircuitBreaker.isTripped(), "Circuit breaker should have tripped");
+        
+        assertEquals(rla.getPassedTests().size(), 1, "Incorrect passed test count");
+        assertEquals(rla.getFailedTests().size(), 1, "Incorrect failed test count");
+        assertEquals(rla.getIgnoredTests().size(), 4, "Incorrect ignored test count");
+        ReferenceReleaseTest.checkLeakReports(checker);
+    }
+    
+    @AfterMethod
+    public void afterMethod() {
+        System.clearProperty(JUnitSettings.BREAKER_MAX_FAILURES.key());
+        System.clearProperty(JUnitSettings.BREAKER_THRESHOLD.key());
+        System.clearProperty(JUnitSettings.BREAKER_MIN_TESTS.key());
+    }
+    
+}
@@ -0,0 +1,69 @@
+package com.nordstrom.automation.junit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.runner.JUnitCore;
+import org.junit.runner.Result;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.nordstrom.automation.junit.JUnitConfig.JUnitSettings;
+
+public class DurationOrderTest {
+    
+    private static final String CLASS_NAME = DurationOrdered.class.getName();
+    private Path historyPath;
+    
+    @BeforeClass
+    public void before() throws IOException {
+        historyPath = Files.createTempFile("junit-durations", ".txt");
+        List<String> lines = Arrays.asList(
+                CLASS_NAME + "#testFast\t10,20,10",
+                CLASS_NAME + "#testMedium\t400,500",
+                CLASS_NAME + "#testSlow\t2000");
+        Files.write(historyPath, lines, StandardCharsets.UTF_8);
+        
+        System.setProperty(JUnitSettings.DURATION_HISTORY.key(), historyPath.toString());
+        System.setProperty(JUnitSettings.DURATION_ORDER.key(), "true");
+    }
+    
+    @Test
+    public void verifyLongestFirst() {
+        DurationOrdered.ORDER.clear();
+        
+        RunListenerAdapter rla = new RunListenerAdapter();
+        ReferenceChecker checker = new ReferenceChecker();
+        
+        JUnitCore runner = new JUnitCore();
+        runner.addListener(rla);
+        runner.addListener(checker);
+        Result result = runner.run(DurationOrdered.class);
+        assertTrue(result.wasSuccessful(), "Ordered test methods failed: " + result.getFailures());
+        
+        assertEquals(DurationOrdered.ORDER, Arrays.asList("testUnknown", "testSlow", "testMedium", "testFast"),
+                "Test methods not run longest-first");
+        
+        long[] samples = DurationHistory.getSamples(CLASS_NAME);
+        assertNotNull(samples, "Duration of test class not recorded");
+        assertEquals(samples.length, 1, "Incorrect sample count");
+        ReferenceReleaseTest.checkLeakReports(checker);
+    }
+    
+    @AfterClass
+    public void after() throws IOException {
+        System.clearProperty(JUnitSettings.DURATION_HISTORY.key());
+        System.clearProperty(JUnitSettings.DURATION_ORDER.key());
+        Files.deleteIfExists(historyPath);
+    }
+    
+}
@@ -0,0 +1,32 @@
+package com.nordstrom.automation.junit;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+public class DurationOrdered {
+    
+    static final List<String> ORDER = Collections.synchronizedList(new ArrayList<String>());
+    
+    @Test
+    public void testFast() {
+        ORDER.add("testFast");
+    }
+    
+    @Test
+    public void testMedium() {
+        ORDER.add("testMedium");
+    }
+    
+    @Test
+    public void testSlow() {
+        ORDER.add("testSlow");
+    }
+    
+    @Test
+    public void testUnknown() {
+        ORDER.add("testUnknown");
+    }
+}
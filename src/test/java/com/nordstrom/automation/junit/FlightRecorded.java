@@ -0,0 +1,31 @@
+package com.nordstrom.automation.junit;
+
+import static org.junit.Assert.fail;
+
+import org.junit.Before;
+import org.junit.Ignore;
+import org.junit.Test;
+
+public class FlightRecorded {
+    
+    @Before
+    public void before() {
+        // nothing to do here
+    }
+    
+    @Test
+    public void testPassed() {
+        // nothing to do here
+    }
+    
+    @Test
+    public void testFailed() {
+        fail("Intentional failure");
+    }
+    
+    @Test
+    @Ignore
+    public void testIgnored() {
+        fail("Ignored test was run");
+    }
+}
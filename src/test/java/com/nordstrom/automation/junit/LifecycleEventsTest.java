@@ -0,0 +1,92 @@
+package com.nordstrom.automation.junit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.runner.JUnitCore;
+import org.junit.runner.Result;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+public class LifecycleEventsTest {
+    
+    private static final String CLASS_NAME = FlightRecorded.class.getName();
+    private static final String EVENT_PREFIX = "com.nordstrom.automation.junit.";
+    
+    @Test
+    public void verifyFlightRecorderEvents() throws Exception {
+        if (!LifecycleEvents.isSupported()) {
+            throw new SkipException("Flight Recorder events are not supported by this Java runtime");
+        }
+        
+        // JFR API is accessed reflectively, because tests are built for Java 8
+        Class<?> recordingClass = Class.forName("jdk.jfr.Recording");
+        Object recording = recordingClass.getConstructor().newInstance();
+        Method enable = recordingClass.getMethod("enable", String.class);
+        for (String name : new String[] {"Run", "Test", "Invocation", "Create"}) {
+            enable.invoke(recording, EVENT_PREFIX + name);
+        }
+        
+        Path recordingPath = Files.createTempFile("junit-events", ".jfr");
+        recordingClass.getMethod("start").invoke(recording);
+        try {
+            JUnitCore runner = new JUnitCore();
+            Result result = runner.run(FlightRecorded.class);
+            assertEquals(result.getFailureCount(), 1, "Incorrect failed test count");
+            assertEquals(result.getIgnoreCount(), 1, "Incorrect ignored test count");
+        } finally {
+            recordingClass.getMethod("stop").invoke(recording);
+            recordingClass.getMethod("dump", Path.class).invoke(recording, recordingPath);
+            recordingClass.getMethod("close").invoke(recording);
+        }
+        
+        Class<?> eventClass = Class.forName("jdk.jfr.consumer.RecordedEvent");
+        Method getEventType = eventClass.getMethod("getEventType");
+        Method getString = eventClass.getMethod("getString", String.class);
+        Method getName = Class.forName("jdk.jfr.EventType").getMethod("getName");
+        List<?> events = (List<?>) Class.forName("jdk.jfr.consumer.RecordingFile")
+                .getMethod("readAllEvents", Path.class).invoke(null, recordingPath);
+        Files.deleteIfExists(recordingPath);
+        
+        Map<String, String> outcomes = new HashMap<>();
+        int runs = 0;
+        int befores = 0;
+        int creates = 0;
+        for (Object event : events) {
+            String name = (String) getName.invoke(getEventType.invoke(event));
+            if (!CLASS_NAME.equals(getString.invoke(event, "testClass"))) continue;
+            switch (name.substring(EVENT_PREFIX.length())) {
+                case "Run":
+                    runs++;
+                    break;
+                case "Test":
+                    outcomes.put((String) getString.invoke(event, "testMethod"),
+                            (String) getString.invoke(event, "outcome"));
+                    break;
+                case "Invocation":
+                    if ("BEFORE".equals(getString.invoke(event, "phase"))) befores++;
+                    break;
+                case "Create":
+                    creates++;
+                    break;
+                default:
+                    break;
+            }
+        }
+        
+        assertEquals(runs, 1, "Incorrect run event count");
+        assertEquals(outcomes.get("testPassed"), "passed", "Incorrect outcome for passing test");
+        assertEquals(outcomes.get("testFailed"), "failed", "Incorrect outcome for failing test");
+        assertEquals(outcomes.get("testIgnored"), "ignored", "Incorrect outcome for ignored test");
+        assertEquals(befores, 2, "Incorrect @Before invocation event count");
+        assertTrue(creates >= 2, "Missing test creation events");
+    }
+    
+}
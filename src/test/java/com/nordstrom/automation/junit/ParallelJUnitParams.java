@@ -0,0 +1,35 @@
+package com.nordstrom.automation.junit;
+
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+
+@RunWith(JUnitParamsRunner.class)
+public class ParallelJUnitParams {
+    
+    static CountDownLatch rendezvous;
+    static final AtomicBoolean FAILED_ONCE = new AtomicBoolean();
+    static final List<String> INPUTS = Collections.synchronizedList(new ArrayList<String>());
+    
+    @Test
+    @Parameters({ "first", "second", "third", "fourth" })
+    public void parameterized(final String input) throws InterruptedException {
+        INPUTS.add(input);
+        rendezvous.countDown();
+        assertTrue("Parameter sets were not run in parallel", rendezvous.await(5, TimeUnit.SECONDS));
+        // fail the first attempt of the third set
+        assertTrue("Failing first attempt", !"third".equals(input) || !FAILED_ONCE.compareAndSet(false, true));
+    }
+    
+}
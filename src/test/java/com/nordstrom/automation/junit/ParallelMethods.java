@@ -0,0 +1,41 @@
+package com.nordstrom.automation.junit;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class ParallelMethods {
+    
+    static CountDownLatch rendezvous;
+    static final Set<String> THREADS = Collections.synchronizedSet(new HashSet<String>());
+    
+    @Test
+    public void testFirst() throws InterruptedException {
+        meet();
+    }
+    
+    @Test
+    public void testSecond() throws InterruptedException {
+        meet();
+    }
+    
+    @Test
+    public void testThird() throws InterruptedException {
+        meet();
+    }
+    
+    private static void meet() throws InterruptedException {
+        assertNotNull("Thread runner should be set", LifecycleHooks.getThreadRunner());
+        THREADS.add(Thread.currentThread().getName());
+        rendezvous.countDown();
+        assertTrue("Test methods were not run in parallel", rendezvous.await(5, TimeUnit.SECONDS));
+    }
+    
+}
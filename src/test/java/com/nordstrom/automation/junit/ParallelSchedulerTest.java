@@ -0,0 +1,201 @@
+package com.nordstrom.automation.junit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.runner.Description;
+import org.junit.runner.JUnitCore;
+import org.junit.runner.Result;
+import org.junit.runners.model.FrameworkMethod;
+import org.junit.runners.model.TestClass;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.nordstrom.automation.junit.JUnitConfig.JUnitSettings;
+
+import junitparams.Parameters;
+import junitparams.internal.TestMethod;
+
+public class ParallelSchedulerTest {
+    
+    @BeforeClass
+    public void before() {
+        System.setProperty(JUnitSettings.PARALLEL_MODE.key(), "METHODS");
+        System.setProperty(JUnitSettings.PARALLEL_THREADS.key(), "4");
+    }
+    
+    @Test
+    public void verifyParallelMethods() {
+        ParallelMethods.rendezvous = new CountDownLatch(3);
+        ParallelMethods.THREADS.clear();
+        
+        RunListenerAdapter rla = new RunListenerAdapter();
+        ReferenceChecker checker = new ReferenceChecker();
+        
+        JUnitCore runner = new JUnitCore();
+        runner.addListener(rla);
+        runner.addListener(checker);
+        Result result = runner.run(ParallelMethods.class);
+        assertTrue(result.wasSuccessful(), "Parallel test methods failed: " + result.getFailures());
+        
+        assertEquals(rla.getPassedTests().size(), 3, "Incorrect passed test count");
+        assertEquals(ParallelMethods.THREADS.size(), 3, "Test methods should run on separate threads");
+        for (String thread : ParallelMethods.THREADS) {
+            assertTrue(thread.startsWith("junit-parallel-"), "Test should run on the shared pool: " + thread);
+        }
+        ReferenceReleaseTest.checkLeakReports(checker);
+    }
+    
+    @Test
+    public void verifyVirtualThreads() {
+        ParallelMethods.rendezvous = new CountDownLatch(3);
+        ParallelMethods.THREADS.clear();
+        System.setProperty(JUnitSettings.PARALLEL_VIRTUAL.key(), "true");
+        
+        try {
+            RunListenerAdapter rla = new RunListenerAdapter();
+            ReferenceChecker checker = new ReferenceChecker();
+            
+            JUnitCore runner = new JUnitCore();
+            runner.addListener(rla);
+            runner.addListener(checker);
+            Result result = runner.run(ParallelMethods.class);
+            assertTrue(result.wasSuccessful(), "Parallel test methods failed: " + result.getFailures());
+            
+            assertEquals(rla.getPassedTests().size(), 3, "Incorrect passed test count");
+            assertEquals(ParallelMethods.THREADS.size(), 3, "Test methods should run on separate threads");
+            // if virtual threads unsupported, shared pool is used
+            String prefix = VirtualThreads.isSupported() ? "junit-virtual-" : "junit-parallel-";
+            for (String thread : ParallelMethods.THREADS) {
+                assertTrue(thread.startsWith(prefix), "Test ran on unexpected thread: " + thread);
+            }
+            ReferenceReleaseTest.checkLeakReports(checker);
+        } finally {
+            System.clearProperty(JUnitSettings.PARALLEL_VIRTUAL.key());
+        }
+    }
+    
+    @Test
+    public void verifyResourceLocks() {
+        RunListenerAdapter rla = new RunListenerAdapter();
+        ReferenceChecker checker = new ReferenceChecker();
+        
+        JUnitCore runner = new JUnitCore();
+        runner.addListener(rla);
+        runner.addListener(checker);
+        Result result = runner.run(ResourceLockMethods.class);
+        assertTrue(result.wasSuccessful(), "Resource locks were not honored: " + result.getFailures());
+        
+        assertEquals(rla.getPassedTests().size(), 4, "Incorrect passed test count");
+        ReferenceReleaseTest.checkLeakReports(checker);
+    }
+    
+    @Test
+    public void verifyParallelTheories() {
+        ParallelTheories.rendezvous = new CountDownLatch(3);
+        ParallelTheories.THREADS.clear();
+        System.setProperty(JUnitSettings.THEORIES_PARALLEL.key(), "true");
+        
+        try {
+            RunListenerAdapter rla = new RunListenerAdapter();
+            ReferenceChecker checker = new ReferenceChecker();
+            
+            JUnitCore runner = new JUnitCore();
+            runner.addListener(rla);
+            runner.addListener(checker);
+            Result result = runner.run(ParallelTheories.class);
+            assertTrue(result.wasSuccessful(), "Parallel theory permutations failed: " + result.getFailures());
+            
+            assertEquals(rla.getPassedTests().size(), 1, "Incorrect passed test count");
+            assertEquals(rla.getPassedTheories().size(), 3, "Incorrect passed theory count");
+            assertEquals(ParallelTheories.THREADS.size(), 3, "Theory permutations should run on separate threads");
+            for (String thread : ParallelTheories.THREADS) {
+                assertTrue(thread.startsWith("junit-parallel-"), "Permutation should run on the shared pool: " + thread);
+            }
+            ReferenceReleaseTest.checkLeakReports(checker);
+        } finally {
+            System.clearProperty(JUnitSettings.THEORIES_PARALLEL.key());
+        }
+    }
+    
+    @Test
+    public void verifyParallelJUnitParams() {
+        ParallelJUnitParams.rendezvous = new CountDownLatch(4);
+        ParallelJUnitParams.FAILED_ONCE.set(false);
+        ParallelJUnitParams.INPUTS.clear();
+        System.setProperty(JUnitSettings.MAX_RETRY.key(), "1");
+        
+        try {
+            RunListenerAdapter rla = new RunListenerAdapter();
+            ReferenceChecker checker = new ReferenceChecker();
+            
+            JUnitCore runner = new JUnitCore();
+            runner.addListener(rla);
+            runner.addListener(checker);
+            Result result = runner.run(ParallelJUnitParams.class);
+            assertTrue(result.wasSuccessful(), "Parallel parameter sets failed: " + result.getFailures());
+            
+            assertEquals(rla.getPassedTests().size(), 4, "Incorrect passed test count");
+            assertEquals(rla.getRetriedTests().size(), 1, "Incorrect retried test count");
+            Set<String> names = new HashSet<>();
+            for (Description description : rla.getPassedTests()) {
+                names.add(description.getDisplayName());
+                assertNotNull(description.getAnnotation(org.junit.Test.class), "Parameter set should be annotated");
+                assertNull(description.getAnnotation(Parameters.class), "Parameter set should not be parameterized");
+            }
+            assertEquals(names.size(), 4, "Each parameter set should have its own description");
+            
+            List<String> inputs = new ArrayList<>(ParallelJUnitParams.INPUTS);
+            Collections.sort(inputs);
+            assertEquals(inputs, Arrays.asList("first", "fourth", "second", "third", "third"),
+                    "Each parameter set should run once, with one retry of the failed set");
+            ReferenceReleaseTest.checkLeakReports(checker);
+        } finally {
+            System.clearProperty(JUnitSettings.MAX_RETRY.key());
+        }
+    }
+    
+    @Test
+    public void verifyJUnitParamsDescriptionIdentity() throws Exception {
+        FrameworkMethod method = new FrameworkMethod(ParallelJUnitParams.class.getMethod("parameterized", String.class));
+        TestMethodDescription.releaseDescriptionFor(method);
+        try {
+            TestMethod testMethod = new TestMethod(method, new TestClass(ParallelJUnitParams.class));
+            Description description = LifecycleHooks.invoke(testMethod, "description");
+            // get description produced by JUnitParams
+            Object memoizer = LifecycleHooks.getFieldValue(testMethod, "description");
+            Description original = LifecycleHooks.getFieldValue(memoizer, "value");
+            
+            assertNotSame(description, original, "Method description should be replaced");
+            assertNull(description.getAnnotation(org.junit.Test.class), "Method should not be annotated as a test");
+            assertEquals(description.getChildren().size(), 4, "Incorrect parameter set count");
+            for (int i = 0; i < 4; i++) {
+                Description child = description.getChildren().get(i);
+                assertSame(child, original.getChildren().get(i), "Parameter set description should not be copied");
+                assertNotNull(child.getAnnotation(org.junit.Test.class), "Parameter set should be annotated");
+            }
+        } finally {
+            TestMethodDescription.releaseDescriptionFor(method);
+        }
+    }
+    
+    @AfterClass
+    public void after() {
+        System.clearProperty(JUnitSettings.PARALLEL_MODE.key());
+        System.clearProperty(JUnitSettings.PARALLEL_THREADS.key());
+    }
+    
+}
@@ -0,0 +1,36 @@
+package com.nordstrom.automation.junit;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.experimental.theories.DataPoints;
+import org.junit.experimental.theories.Theories;
+import org.junit.experimental.theories.Theory;
+import org.junit.runner.RunWith;
+
+@RunWith(Theories.class)
+public class ParallelTheories {
+    
+    static CountDownLatch rendezvous;
+    static final Set<String> THREADS = Collections.synchronizedSet(new HashSet<String>());
+    
+    @DataPoints
+    public static String[] data() {
+        return new String[] { "first", "second", "third" };
+    }
+    
+    @Theory
+    public void theory(final String input) throws InterruptedException {
+        assertNotNull("Thread runner should be set", LifecycleHooks.getThreadRunner());
+        THREADS.add(Thread.currentThread().getName());
+        rendezvous.countDown();
+        assertTrue("Theory permutations were not run in parallel", rendezvous.await(5, TimeUnit.SECONDS));
+    }
+    
+}
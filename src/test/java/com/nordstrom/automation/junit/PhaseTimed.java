@@ -0,0 +1,52 @@
+package com.nordstrom.automation.junit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.junit.runner.Description;
+import org.junit.runners.model.Statement;
+
+public class PhaseTimed {
+    
+    @Rule
+    public final TestRule slowRule = new TestRule() {
+        @Override
+        public Statement apply(final Statement base, Description description) {
+            return new Statement() {
+                @Override
+                public void evaluate() throws Throwable {
+                    Thread.sleep(40);
+                    base.evaluate();
+                }
+            };
+        }
+    };
+    
+    @BeforeClass
+    public static void beforeClass() throws InterruptedException {
+        Thread.sleep(50);
+    }
+    
+    @Before
+    public void before() throws InterruptedException {
+        Thread.sleep(20);
+    }
+    
+    @Test
+    public void testOne() throws InterruptedException {
+        Thread.sleep(30);
+    }
+    
+    @Test
+    public void testTwo() throws InterruptedException {
+        Thread.sleep(30);
+    }
+    
+    @After
+    public void after() throws InterruptedException {
+        Thread.sleep(10);
+    }
+}
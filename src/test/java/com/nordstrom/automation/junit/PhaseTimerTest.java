@@ -0,0 +1,126 @@
+package com.nordstrom.automation.junit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.runner.Description;
+import org.junit.runner.JUnitCore;
+import org.junit.runner.Request;
+import org.junit.runner.Result;
+import org.junit.runner.notification.RunNotifier;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.nordstrom.automation.junit.JUnitConfig.JUnitSettings;
+import com.nordstrom.automation.junit.PhaseTimer.Histogram;
+import com.nordstrom.automation.junit.PhaseTimer.Phase;
+
+public class PhaseTimerTest {
+    
+    private static final String CLASS_NAME = PhaseTimed.class.getName();
+    private static final long MILLIS = 1000000L;
+    private Path reportPath;
+    
+    @BeforeClass
+    public void before() throws IOException {
+        reportPath = Files.createTempFile("junit-phases", ".tsv");
+        System.setProperty(JUnitSettings.PHASE_TIMING.key(), reportPath.toString());
+    }
+    
+    @Test
+    public void verifyPhaseTimings() throws IOException {
+        RunListenerAdapter rla = new RunListenerAdapter();
+        ReferenceChecker checker = new ReferenceChecker();
+        
+        JUnitCore runner = new JUnitCore();
+        runner.addListener(rla);
+        runner.addListener(checker);
+        Result result = runner.run(PhaseTimed.class);
+        assertTrue(result.wasSuccessful(), "Timed test methods failed: " + result.getFailures());
+        
+        Map<String, Histogram[]> timings = PhaseTimer.getTimings();
+        Histogram[] classPhases = timings.get(CLASS_NAME);
+        assertNotNull(classPhases, "Phase timings of test class not recorded");
+        verifyPhase(classPhases, Phase.CLASS_SETUP, 1, 50);
+        verifyPhase(classPhases, Phase.CREATE, 2, 0);
+        verifyPhase(classPhases, Phase.BEFORE, 2, 40);
+        verifyPhase(classPhases, Phase.TEST, 2, 60);
+        verifyPhase(classPhases, Phase.AFTER, 2, 20);
+        verifyPhase(classPhases, Phase.RULES, 2, 80);
+        
+        Histogram[] testPhases = timings.get(DurationHistory.getTestId(CLASS_NAME, "testOne"));
+        assertNotNull(testPhases, "Phase timings of test method not recorded");
+        verifyPhase(testPhases, Phase.BEFORE, 1, 20);
+        verifyPhase(testPhases, Phase.TEST, 1, 30);
+        verifyPhase(testPhases, Phase.RULES, 1, 40);
+        assertEquals(testPhases[Phase.CLASS_SETUP.ordinal()], null, "Class setup attributed to test method");
+        
+        List<String> lines = Files.readAllLines(reportPath, StandardCharsets.UTF_8);
+        assertTrue(lines.size() > 1, "Phase timing report is empty");
+        assertTrue(lines.get(0).startsWith("id\tphase\t"), "Phase timing report lacks header");
+        boolean found = false;
+        for (String line : lines) {
+            if (line.startsWith(CLASS_NAME + "#testTwo\tTEST\t1\t")) {
+                found = true;
+            }
+        }
+        assertTrue(found, "Phase timing report lacks per-test breakdown");
+        ReferenceReleaseTest.checkLeakReports(checker);
+    }
+    
+    @Test
+    public void verifyRunWideReport() throws IOException {
+        ReferenceChecker checker = new ReferenceChecker();
+        Result result = new Result();
+        
+        // run each class as a separate root runner with a shared notifier (like Maven Surefire)
+        RunNotifier notifier = new RunNotifier();
+        notifier.addListener(result.createListener());
+        notifier.addListener(checker);
+        notifier.fireTestRunStarted(Description.EMPTY);
+        Request.aClass(PhaseTimed.class).getRunner().run(notifier);
+        Request.aClass(DurationOrdered.class).getRunner().run(notifier);
+        notifier.fireTestRunFinished(result);
+        assertTrue(result.wasSuccessful(), "Timed test methods failed: " + result.getFailures());
+        
+        Map<String, Histogram[]> timings = PhaseTimer.getTimings();
+        assertNotNull(timings.get(CLASS_NAME), "Phase timings of first test class not retained");
+        assertNotNull(timings.get(DurationOrdered.class.getName()), "Phase timings of second test class not recorded");
+        
+        boolean foundFirst = false;
+        boolean foundSecond = false;
+        for (String line : Files.readAllLines(reportPath, StandardCharsets.UTF_8)) {
+            if (line.startsWith(CLASS_NAME + "\t")) {
+                foundFirst = true;
+            } else if (line.startsWith(DurationOrdered.class.getName() + "\t")) {
+                foundSecond = true;
+            }
+        }
+        assertTrue(foundFirst, "Phase timing report lacks first test class");
+        assertTrue(foundSecond, "Phase timing report lacks second test class");
+        ReferenceReleaseTest.checkLeakReports(checker);
+    }
+    
+    private static void verifyPhase(Histogram[] phases, Phase phase, long count, long minMillis) {
+        Histogram histogram = phases[phase.ordinal()];
+        assertNotNull(histogram, phase + " phase not recorded");
+        assertEquals(histogram.getCount(), count, "Incorrect " + phase + " count");
+        assertTrue(histogram.getWallTotal() >= minMillis * MILLIS, "Incorrect " + phase + " duration");
+    }
+    
+    @AfterClass
+    public void after() throws IOException {
+        System.clearProperty(JUnitSettings.PHASE_TIMING.key());
+        Files.deleteIfExists(reportPath);
+    }
+    
+}
@@ -0,0 +1,24 @@
+package com.nordstrom.automation.junit;
+
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class QuarantineFailing {
+    
+    static volatile String quarantineThread;
+    
+    @Test
+    public void testPassed() {
+        System.out.println("testPassed");
+    }
+    
+    @Test
+    @Quarantine
+    public void testQuarantined() {
+        quarantineThread = Thread.currentThread().getName();
+        System.out.println("testQuarantined: " + quarantineThread);
+        assertTrue("testQuarantined", false);
+    }
+    
+}
@@ -0,0 +1,23 @@
+package com.nordstrom.automation.junit;
+
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class QuarantineListed {
+    
+    static volatile String listedThread;
+    
+    @Test
+    public void testPassed() {
+        System.out.println("testPassed");
+    }
+    
+    @Test
+    public void testListed() {
+        listedThread = Thread.currentThread().getName();
+        System.out.println("testListed: " + listedThread);
+        assertTrue("testListed", false);
+    }
+    
+}
@@ -0,0 +1,76 @@
+package com.nordstrom.automation.junit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.runner.JUnitCore;
+import org.junit.runner.Result;
+import org.testng.annotations.Test;
+
+import com.nordstrom.automation.junit.JUnitConfig.JUnitSettings;
+
+public class QuarantineTest {
+    
+    @Test
+    public void testQuarantinedFailure() {
+        QuarantineFailing.quarantineThread = null;
+        RunListenerAdapter rla = new RunListenerAdapter();
+        ReferenceChecker checker = new ReferenceChecker();
+        
+        JUnitCore runner = new JUnitCore();
+        runner.addListener(rla);
+        runner.addListener(checker);
+        Result result = runner.run(QuarantineFailing.class);
+        assertTrue(result.wasSuccessful());
+        
+        assertEquals(rla.getPassedTests().size(), 1, "Incorrect passed test count");
+        assertEquals(rla.getFailedTests().size(), 0, "Incorrect failed test count");
+        assertEquals(rla.getFailedTestAssumptions().size(), 1, "Incorrect failed assumption count");
+        assertEquals(rla.getIgnoredTests().size(), 0, "Incorrect ignored test count");
+        assertEquals(rla.getFailedTestAssumptions().get(0).getMethodName(), "testQuarantined");
+        assertNotNull(QuarantineFailing.quarantineThread, "Quarantined test wasn't run");
+        assertTrue(QuarantineFailing.quarantineThread.startsWith("quarantine-"),
+                "Quarantined test ran on thread: " + QuarantineFailing.quarantineThread);
+        ReferenceReleaseTest.checkLeakReports(checker);
+    }
+    
+    @Test
+    public void testQuarantineList() throws IOException {
+        QuarantineListed.listedThread = null;
+        Path listPath = Files.createTempFile("quarantine", ".txt");
+        Files.write(listPath, Arrays.asList("# known-flaky tests", "",
+                QuarantineListed.class.getName() + "#testListed"), StandardCharsets.UTF_8);
+        System.setProperty(JUnitSettings.QUARANTINE_LIST.key(), listPath.toString());
+        
+        try {
+            RunListenerAdapter rla = new RunListenerAdapter();
+            ReferenceChecker checker = new ReferenceChecker();
+            
+            JUnitCore runner = new JUnitCore();
+            runner.addListener(rla);
+            runner.addListener(checker);
+            Result result = runner.run(QuarantineListed.class);
+            assertTrue(result.wasSuccessful());
+            
+            assertEquals(rla.getPassedTests().size(), 1, "Incorrect passed test count");
+            assertEquals(rla.getFailedTests().size(), 0, "Incorrect failed test count");
+            assertEquals(rla.getFailedTestAssumptions().size(), 1, "Incorrect failed assumption count");
+            assertEquals(rla.getFailedTestAssumptions().get(0).getMethodName(), "testListed");
+            assertNotNull(QuarantineListed.listedThread, "Listed test wasn't run");
+            assertTrue(QuarantineListed.listedThread.startsWith("quarantine-"),
+                    "Listed test ran on thread: " + QuarantineListed.listedThread);
+            ReferenceReleaseTest.checkLeakReports(checker);
+        } finally {
+            System.clearProperty(JUnitSettings.QUARANTINE_LIST.key());
+            Files.deleteIfExists(listPath);
+        }
+    }
+    
+}
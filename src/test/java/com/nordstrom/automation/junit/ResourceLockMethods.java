@@ -0,0 +1,65 @@
+package com.nordstrom.automation.junit;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.nordstrom.automation.junit.ResourceLock.Mode;
+
+@ResourceLock(value = "shared", mode = Mode.READ)
+public class ResourceLockMethods {
+    
+    static final AtomicInteger READERS = new AtomicInteger();
+    static final AtomicInteger WRITERS = new AtomicInteger();
+    
+    @Test
+    public void testReaderA() throws InterruptedException {
+        read();
+    }
+    
+    @Test
+    public void testReaderB() throws InterruptedException {
+        read();
+    }
+    
+    @Test
+    @ResourceLock("shared")
+    public void testWriterA() throws InterruptedException {
+        write();
+    }
+    
+    @Test
+    @ResourceLock("shared")
+    @ResourceLock("other")
+    public void testWriterB() throws InterruptedException {
+        write();
+    }
+    
+    private static void read() throws InterruptedException {
+        READERS.incrementAndGet();
+        try {
+            assertEquals("Reader overlapped writer", 0, WRITERS.get());
+            TimeUnit.MILLISECONDS.sleep(100);
+            assertEquals("Reader overlapped writer", 0, WRITERS.get());
+        } finally {
+            READERS.decrementAndGet();
+        }
+    }
+    
+    private static void write() throws InterruptedException {
+        WRITERS.incrementAndGet();
+        try {
+            assertEquals("Writer overlapped writer", 1, WRITERS.get());
+            assertEquals("Writer overlapped reader", 0, READERS.get());
+            TimeUnit.MILLISECONDS.sleep(100);
+            assertEquals("Writer overlapped writer", 1, WRITERS.get());
+            assertEquals("Writer overlapped reader", 0, READERS.get());
+        } finally {
+            WRITERS.decrementAndGet();
+        }
+    }
+    
+}
@@ -0,0 +1,118 @@
+package com.nordstrom.automation.junit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.runner.Description;
+import org.junit.runner.JUnitCore;
+import org.junit.runner.Result;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.nordstrom.automation.junit.JUnitConfig.JUnitSettings;
+
+public class ShardFilterTest {
+    
+    private static final String CLASS_NAME = ShardedMethods.class.getName();
+    private static final List<Class<?>> SHARDED_CLASSES =
+            Arrays.<Class<?>>asList(ShardedMethods.class, DurationOrdered.class, AutomaticRetryPassing.class);
+    private Path historyPath;
+    
+    @BeforeClass
+    public void before() throws IOException {
+        historyPath = Files.createTempFile("junit-durations", ".txt");
+        List<String> lines = Arrays.asList(
+                CLASS_NAME + "#testA\t400",
+                CLASS_NAME + "#testB\t300",
+                CLASS_NAME + "#testC\t200",
+                CLASS_NAME + "#testD\t100",
+                CLASS_NAME + "\t400",
+                DurationOrdered.class.getName() + "\t300",
+                AutomaticRetryPassing.class.getName() + "\t200");
+        Files.write(historyPath, lines, StandardCharsets.UTF_8);
+        
+        System.setProperty(JUnitSettings.DURATION_HISTORY.key(), historyPath.toString());
+        System.setProperty(JUnitSettings.SHARD_COUNT.key(), "2");
+    }
+    
+    @Test
+    public void verifyBalancedShards() {
+        System.setProperty(JUnitSettings.SHARD_UNIT.key(), "METHODS");
+        Set<String> shard0 = runShard(0);
+        Set<String> shard1 = runShard(1);
+        
+        assertTrue(shard0.containsAll(Arrays.asList("testA", "testD")), "Incorrect assignments to shard 0: " + shard0);
+        assertTrue(shard1.containsAll(Arrays.asList("testB", "testC")), "Incorrect assignments to shard 1: " + shard1);
+        assertEquals(shard0.size() + shard1.size(), 5, "Each test should be assigned to exactly one shard");
+        assertTrue(shard0.contains("testE") || shard1.contains("testE"), "Unknown test should be assigned by hash");
+    }
+    
+    @Test
+    public void verifyClassShardsAcrossRoots() {
+        System.setProperty(JUnitSettings.SHARD_UNIT.key(), "CLASSES");
+        Set<String> shard0 = runClassShard(0);
+        Set<String> shard1 = runClassShard(1);
+        
+        assertEquals(shard0, new HashSet<>(Arrays.asList(CLASS_NAME)), "Incorrect assignments to shard 0");
+        assertEquals(shard1, new HashSet<>(Arrays.asList(DurationOrdered.class.getName(),
+                AutomaticRetryPassing.class.getName())), "Incorrect assignments to shard 1");
+    }
+    
+    private static Set<String> runClassShard(final int index) {
+        System.setProperty(JUnitSettings.SHARD_INDEX.key(), Integer.toString(index));
+        
+        Set<String> names = new HashSet<>();
+        // run each class with its own root runner
+        for (Class<?> testClass : SHARDED_CLASSES) {
+            RunListenerAdapter rla = new RunListenerAdapter();
+            JUnitCore runner = new JUnitCore();
+            runner.addListener(rla);
+            Result result = runner.run(testClass);
+            assertTrue(result.wasSuccessful(), "Sharded test classes failed: " + result.getFailures());
+            for (Description description : rla.getPassedTests()) {
+                names.add(description.getClassName());
+            }
+        }
+        return names;
+    }
+    
+    private static Set<String> runShard(final int index) {
+        System.setProperty(JUnitSettings.SHARD_INDEX.key(), Integer.toString(index));
+        
+        RunListenerAdapter rla = new RunListenerAdapter();
+        ReferenceChecker checker = new ReferenceChecker();
+        
+        JUnitCore runner = new JUnitCore();
+        runner.addListener(rla);
+        runner.addListener(checker);
+        Result result = runner.run(ShardedMethods.class);
+        assertTrue(result.wasSuccessful(), "Sharded test methods failed: " + result.getFailures());
+        ReferenceReleaseTest.checkLeakReports(checker);
+        
+        Set<String> names = new HashSet<>();
+        for (Description description : rla.getPassedTests()) {
+            names.add(description.getMethodName());
+        }
+        return names;
+    }
+    
+    @AfterClass
+    public void after() throws IOException {
+        System.clearProperty(JUnitSettings.DURATION_HISTORY.key());
+        System.clearProperty(JUnitSettings.SHARD_COUNT.key());
+        System.clearProperty(JUnitSettings.SHARD_INDEX.key());
+        System.clearProperty(JUnitSettings.SHARD_UNIT.key());
+        Files.deleteIfExists(historyPath);
+    }
+    
+}
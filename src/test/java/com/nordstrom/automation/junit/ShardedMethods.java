@@ -0,0 +1,33 @@
+package com.nordstrom.automation.junit;
+
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class ShardedMethods {
+    
+    @Test
+    public void testA() {
+        assertTrue(true);
+    }
+    
+    @Test
+    public void testB() {
+        assertTrue(true);
+    }
+    
+    @Test
+    public void testC() {
+        assertTrue(true);
+    }
+    
+    @Test
+    public void testD() {
+        assertTrue(true);
+    }
+    
+    @Test
+    public void testE() {
+        assertTrue(true);
+    }
+}
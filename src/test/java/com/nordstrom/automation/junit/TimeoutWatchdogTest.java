@@ -0,0 +1,125 @@
+package com.nordstrom.automation.junit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.runner.JUnitCore;
+import org.junit.runner.Result;
+import org.junit.runner.notification.Failure;
+import org.junit.runners.model.TestTimedOutException;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.nordstrom.automation.junit.JUnitConfig.JUnitSettings;
+
+public class TimeoutWatchdogTest {
+    
+    private static final Map<String, String> MESSAGE_MAP;
+    
+    static {
+        MESSAGE_MAP = new HashMap<>();
+        MESSAGE_MAP.put("testWatchdogTimeout", "test timed out after 500 milliseconds");
+        MESSAGE_MAP.put("testWatchdogTimeoutWithShorterInterval", "test timed out after 300 milliseconds");
+    }
+    
+    @BeforeClass
+    public void before() {
+        System.setProperty(JUnitSettings.TIMEOUT_RULE.key(), "500");
+        System.setProperty(JUnitSettings.TIMEOUT_WATCHDOG.key(), "true");
+    }
+    
+    @Test
+    public void verifyExpectedTimeout() {
+        RunListenerAdapter rla = new RunListenerAdapter();
+        ReferenceChecker checker = new ReferenceChecker();
+        
+        JUnitCore runner = new JUnitCore();
+        runner.addListener(rla);
+        runner.addListener(checker);
+        Result result = runner.run(WatchdogExpectedTimeout.class);
+        assertFalse(result.wasSuccessful());
+        
+        assertEquals(rla.getPassedTests().size(), 1, "Incorrect passed test count");
+        assertEquals(rla.getFailedTests().size(), 2, "Incorrect failed test count");
+        assertEquals(rla.getIgnoredTests().size(), 0, "Incorrect ignored test count");
+        
+        // all tests run in place, without per-test threads
+        assertEquals(WatchdogExpectedTimeout.THREADS, Collections.singleton(Thread.currentThread()),
+                "Tests should run on the calling thread");
+        assertFalse(Thread.currentThread().isInterrupted(), "Interrupt status should be cleared");
+        
+        for (Failure failure : result.getFailures()) {
+            String methodName = failure.getDescription().getMethodName();
+            Throwable thrown = failure.getException();
+            assertEquals(thrown.getClass(), TestTimedOutException.class, "Exception class for: " + methodName);
+            assertEquals(thrown.getMessage(), MESSAGE_MAP.get(methodName), "Failure message for: " + methodName);
+            assertTrue(Arrays.toString(thrown.getStackTrace()).contains(methodName),
+                    "Stack trace should include test method: " + methodName);
+        }
+        ReferenceReleaseTest.checkLeakReports(checker);
+    }
+    
+    @Test
+    public void verifyThreadDumpCapture() throws IOException {
+        System.setProperty(JUnitSettings.TIMEOUT_THREAD_DUMP.key(), "true");
+        System.setProperty(JUnitSettings.TIMEOUT_STACK_SAMPLES.key(), "2");
+        
+        Path dumpPath = new ThreadDumpArtifact().getArtifactPath(new WatchdogExpectedTimeout());
+        deleteThreadDumps(dumpPath);
+        
+        try {
+            RunListenerAdapter rla = new RunListenerAdapter();
+            ReferenceChecker checker = new ReferenceChecker();
+            
+            JUnitCore runner = new JUnitCore();
+            runner.addListener(rla);
+            runner.addListener(checker);
+            Result result = runner.run(WatchdogExpectedTimeout.class);
+            assertFalse(result.wasSuccessful());
+            assertEquals(rla.getFailedTests().size(), 2, "Incorrect failed test count");
+            
+            for (String methodName : MESSAGE_MAP.keySet()) {
+                Path artifactPath = dumpPath.resolve(methodName + ".txt");
+                assertTrue(Files.exists(artifactPath), "Thread dump not captured for: " + methodName);
+                String dump = new String(Files.readAllBytes(artifactPath), StandardCharsets.UTF_8);
+                assertTrue(dump.startsWith("Thread dump captured at expiry"), "Incorrect thread dump header");
+                assertTrue(dump.contains("--- sample 2 of 2 ---"), "Stack samples not captured for: " + methodName);
+                assertTrue(dump.contains(methodName), "Thread dump should include test method: " + methodName);
+            }
+            assertFalse(Files.exists(dumpPath.resolve("testWatchdogPassed.txt")), "Thread dump captured for passed test");
+            ReferenceReleaseTest.checkLeakReports(checker);
+        } finally {
+            System.clearProperty(JUnitSettings.TIMEOUT_THREAD_DUMP.key());
+            System.clearProperty(JUnitSettings.TIMEOUT_STACK_SAMPLES.key());
+        }
+    }
+    
+    @AfterClass
+    public void after() {
+        System.clearProperty(JUnitSettings.TIMEOUT_RULE.key());
+        System.clearProperty(JUnitSettings.TIMEOUT_WATCHDOG.key());
+    }
+    
+    private static void deleteThreadDumps(Path dumpPath) throws IOException {
+        if (Files.isDirectory(dumpPath)) {
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(dumpPath)) {
+                for (Path path : stream) {
+                    Files.delete(path);
+                }
+            }
+        }
+    }
+    
+}
@@ -0,0 +1,42 @@
+package com.nordstrom.automation.junit;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class UnitTestStreamingArtifact extends StreamingArtifactType {
+    
+    static final int LINE_COUNT = 1000;
+    static final String LINE = "streamed artifact line\n";
+    
+    private static final String EXTENSION = "log";
+    private static final Logger LOGGER = LoggerFactory.getLogger(UnitTestStreamingArtifact.class);
+    
+    @Override
+    public Logger getLogger() {
+        return LOGGER;
+    }
+
+    @Override
+    public boolean canGetArtifact(Object instance) {
+        return true;
+    }
+
+    @Override
+    public boolean writeArtifact(Object instance, Throwable reason, OutputStream out) throws IOException {
+        byte[] line = LINE.getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i < LINE_COUNT; i++) {
+            out.write(line);
+        }
+        return true;
+    }
+
+    @Override
+    public String getArtifactExtension() {
+        return EXTENSION;
+    }
+
+}
@@ -0,0 +1,44 @@
+package com.nordstrom.automation.junit;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class WatchdogExpectedTimeout {
+    
+    static final Set<Thread> THREADS = new CopyOnWriteArraySet<>();
+    
+    @Test
+    public void testWatchdogPassed() throws InterruptedException {
+        System.out.println("testWatchdogPassed");
+        THREADS.add(Thread.currentThread());
+        assertFalse(Thread.currentThread().isInterrupted());
+        TimeUnit.MILLISECONDS.sleep(100);
+        assertTrue(true);
+    }
+    
+    @Test
+    public void testWatchdogTimeout() throws InterruptedException {
+        System.out.println("testWatchdogTimeout");
+        THREADS.add(Thread.currentThread());
+        TimeUnit.MILLISECONDS.sleep(1000);
+        assertTrue(true);
+    }
+    
+    @Test(timeout = 300)
+    public void testWatchdogTimeoutWithShorterInterval() throws InterruptedException {
+        System.out.println("testWatchdogTimeoutWithShorterInterval");
+        THREADS.add(Thread.currentThread());
+        TimeUnit.MILLISECONDS.sleep(1000);
+        assertTrue(true);
+    }
+    
+}